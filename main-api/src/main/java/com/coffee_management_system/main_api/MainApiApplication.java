@@ -1,13 +1,23 @@
 package com.coffee_management_system.main_api;
 
+import com.coffee_management_system.main_api.config.ConcurrencyLimitProperties;
 import com.coffee_management_system.main_api.config.DatasourceProperties;
 import com.coffee_management_system.main_api.config.JwtProperties;
+import com.coffee_management_system.main_api.config.LoyaltyProperties;
+import com.coffee_management_system.main_api.config.MenuProperties;
+import com.coffee_management_system.main_api.config.OrderBoardProperties;
+import com.coffee_management_system.main_api.config.OrderExportProperties;
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
 import com.coffee_management_system.main_api.config.RabbitmqProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties({JwtProperties.class, DatasourceProperties.class, RabbitmqProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, DatasourceProperties.class, RabbitmqProperties.class,
+		MenuProperties.class, OrderBoardProperties.class, OrderExportProperties.class,
+		LoyaltyProperties.class, OrderSearchProperties.class, ConcurrencyLimitProperties.class})
+@EnableScheduling
 @SpringBootApplication
 public class MainApiApplication {
 
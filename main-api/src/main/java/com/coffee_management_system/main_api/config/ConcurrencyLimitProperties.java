@@ -0,0 +1,46 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Validated
+@Data
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+
+    @Min(value = 1, message = "Initial concurrency limit must be at least 1")
+    private int initialLimit = 50;
+
+    @Min(value = 1, message = "Minimum concurrency limit must be at least 1")
+    private int minLimit = 8;
+
+    @Min(value = 1, message = "Maximum concurrency limit must be at least 1")
+    private int maxLimit = 400;
+
+    @Min(value = 1, message = "Sample window must be at least 1 request")
+    private int sampleWindow = 50; // completed requests per limit update
+
+    @DecimalMin(value = "1.0", message = "RTT tolerance must be at least 1.0")
+    private double rttTolerance = 1.5; // latency growth accepted before the limit shrinks
+
+    @DecimalMin(value = "0.01", message = "Smoothing must be greater than 0")
+    @DecimalMax(value = "1.0", message = "Smoothing must be at most 1.0")
+    private double smoothing = 0.2;
+
+    @DecimalMin(value = "0.1", message = "Backoff ratio must be at least 0.1")
+    @DecimalMax(value = "0.99", message = "Backoff ratio must be below 1.0")
+    private double backoffRatio = 0.9; // multiplicative decrease after timeouts/errors
+
+    @Min(value = 0, message = "Critical reserve must not be negative")
+    private int criticalReserve = 4; // slots above the limit kept for health checks
+
+    @Min(value = 1, message = "Retry-After must be at least 1 second")
+    private int retryAfterSeconds = 1;
+}
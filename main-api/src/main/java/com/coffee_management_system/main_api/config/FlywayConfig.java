@@ -0,0 +1,29 @@
+package com.coffee_management_system.main_api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.SpringProperties;
+
+/**
+ * Skips the schema migration in the fast-startup build's CDS training run, which is started with
+ * {@code spring.context.exit=onRefresh} only to record the classes loaded at startup and must not
+ * need a database. Every other start migrates as usual.
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j
+public class FlywayConfig {
+    static final String CONTEXT_EXIT_PROPERTY = "spring.context.exit";
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            if (SpringProperties.getProperty(CONTEXT_EXIT_PROPERTY) != null) {
+                log.info("Skipping Flyway migration, the context exits on refresh");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
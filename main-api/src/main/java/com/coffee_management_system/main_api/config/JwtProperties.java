@@ -1,5 +1,8 @@
 package com.coffee_management_system.main_api.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,9 +16,17 @@ public class JwtProperties {
     @NotBlank(message = "JWT secret must not be blank")
     private String secret;
 
-    @Min(value = 3600000, message = "JWT expiration must be at least 1 hour (3600000 ms)")
+    // Access token lifetime. Clients renew access tokens with a refresh token, so they can be short-lived
+    @Min(value = 60000, message = "JWT expiration must be at least 1 minute (60000 ms)")
     private Long expiration;
 
+    // Refresh token lifetime, i.e. how long a user stays logged in without entering credentials
+    @Min(value = 3600000, message = "JWT refresh expiration must be at least 1 hour (3600000 ms)")
+    private Long refreshExpiration = 604800000L;
+
+    @Valid
+    private Revocation revocation = new Revocation();
+
     public String getSecret() {
         return secret;
     }
@@ -31,4 +42,77 @@ public class JwtProperties {
     public void setExpiration(Long expiration) {
         this.expiration = expiration;
     }
-}
\ No newline at end of file
+
+    public Long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public void setRefreshExpiration(Long refreshExpiration) {
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    public Revocation getRevocation() {
+        return revocation;
+    }
+
+    public void setRevocation(Revocation revocation) {
+        this.revocation = revocation;
+    }
+
+    public static class Revocation {
+        @Min(value = 1, message = "Expected revocations must be at least 1")
+        private int expectedRevocations = 100000;
+
+        @DecimalMin(value = "0.000001", message = "Bloom filter false positive rate is too small")
+        @DecimalMax(value = "0.5", message = "Bloom filter false positive rate must be at most 0.5")
+        private double falsePositiveRate = 0.01;
+
+        @Min(value = 1000, message = "Revocation purge interval must be at least 1 second (1000 ms)")
+        private long purgeInterval = 60000;
+
+        private boolean syncEnabled = false; // Broadcast revocations to other nodes over RabbitMQ
+
+        @NotBlank(message = "Revocation exchange must not be blank")
+        private String exchange = "token.revocation.exchange";
+
+        public int getExpectedRevocations() {
+            return expectedRevocations;
+        }
+
+        public void setExpectedRevocations(int expectedRevocations) {
+            this.expectedRevocations = expectedRevocations;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        public long getPurgeInterval() {
+            return purgeInterval;
+        }
+
+        public void setPurgeInterval(long purgeInterval) {
+            this.purgeInterval = purgeInterval;
+        }
+
+        public boolean isSyncEnabled() {
+            return syncEnabled;
+        }
+
+        public void setSyncEnabled(boolean syncEnabled) {
+            this.syncEnabled = syncEnabled;
+        }
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public void setExchange(String exchange) {
+            this.exchange = exchange;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "loyalty")
+@Validated
+@Data
+public class LoyaltyProperties {
+    @Min(value = 1, message = "Cents per loyalty point must be at least 1")
+    private long centsPerPoint = 100; // 1 point per whole currency unit
+
+    @Min(value = 100, message = "Loyalty flush interval must be at least 100 ms")
+    private long flushInterval = 5000;
+}
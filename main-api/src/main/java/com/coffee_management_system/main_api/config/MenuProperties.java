@@ -0,0 +1,38 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "menu")
+@Validated
+@Data
+public class MenuProperties {
+    @Valid
+    private List<Item> items = new ArrayList<>();
+
+    private boolean syncEnabled = false; // Tell other nodes about menu replacements over RabbitMQ
+
+    @NotBlank(message = "Menu exchange must not be blank")
+    private String exchange = "menu.exchange";
+
+    @Data
+    public static class Item {
+        @Positive(message = "Menu item id must be positive")
+        private int id;
+
+        @NotBlank(message = "Menu item name must not be blank")
+        private String name;
+
+        @Positive(message = "Menu item price must be positive")
+        private long priceCents;
+    }
+}
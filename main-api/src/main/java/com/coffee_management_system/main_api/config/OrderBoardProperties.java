@@ -0,0 +1,31 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "order-board")
+@Validated
+@Data
+public class OrderBoardProperties {
+    @Min(value = 1, message = "Subscriber buffer size must be at least 1")
+    private int subscriberBufferSize = 64;
+
+    @Min(value = 1, message = "Replay history size must be at least 1")
+    private int historySize = 256;
+
+    @Min(value = 0, message = "Emitter timeout cannot be negative")
+    private long emitterTimeout = 1800000; // 0 means no timeout
+
+    @Min(value = 1000, message = "Heartbeat interval must be at least 1 second (1000 ms)")
+    private long heartbeatInterval = 15000;
+
+    private boolean syncEnabled = false; // Share order events with other nodes over RabbitMQ
+
+    @NotBlank(message = "Order board exchange must not be blank")
+    private String exchange = "order.board.exchange";
+}
@@ -0,0 +1,21 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "export.orders")
+@Validated
+@Data
+public class OrderExportProperties {
+    private boolean nightlyEnabled = false;
+
+    @NotBlank(message = "Order export cron must not be blank")
+    private String cron = "0 30 2 * * *";
+
+    @NotBlank(message = "Order export directory must not be blank")
+    private String directory = "exports";
+}
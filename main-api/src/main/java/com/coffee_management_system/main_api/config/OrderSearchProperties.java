@@ -0,0 +1,19 @@
+package com.coffee_management_system.main_api.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Configuration
+@ConfigurationProperties(prefix = "order-search")
+@Validated
+@Data
+public class OrderSearchProperties {
+    @Min(value = 1, message = "Order search index capacity must be at least 1")
+    private int capacity = 100000; // most recent orders kept in the in-memory index
+
+    @Min(value = 1, message = "Order search result limit must be at least 1")
+    private int maxResults = 200;
+}
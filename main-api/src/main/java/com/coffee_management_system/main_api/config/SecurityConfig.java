@@ -1,11 +1,15 @@
 package com.coffee_management_system.main_api.config;
 
+import com.coffee_management_system.main_api.security.AdaptiveConcurrencyLimiter;
+import com.coffee_management_system.main_api.security.ConcurrencyLimitFilter;
 import com.coffee_management_system.main_api.security.JwtAuthenticationFilter;
 import com.coffee_management_system.main_api.security.JwtUtil;
+import com.coffee_management_system.main_api.security.TokenRevocationService;
 import com.coffee_management_system.main_api.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,6 +21,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -24,6 +29,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService revocationService;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -31,12 +39,23 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable) // Updated to lambda-based syntax
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.PUT, "/api/menu").hasRole("ADMIN")
+                        .requestMatchers("/api/orders/export").hasRole("ADMIN")
+                        .requestMatchers("/api/orders/search").hasAnyRole("STAFF", "ADMIN")
                         .requestMatchers("/api/**", "/auth/**").permitAll()
                         .requestMatchers("/test", "/api/test/public").permitAll() // For debugging
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, (CustomUserDetailsService) userDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, (CustomUserDetailsService) userDetailsService,
+                                revocationService),
                         UsernamePasswordAuthenticationFilter.class);
+        if (concurrencyLimitProperties.isEnabled()) {
+            // Shed load before any token parsing or user lookup happens
+            http.addFilterBefore(new ConcurrencyLimitFilter(concurrencyLimiter,
+                            concurrencyLimitProperties.getRetryAfterSeconds()),
+                    SecurityContextHolderFilter.class);
+        }
         return http.build();
     }
 
@@ -7,6 +7,7 @@ import lombok.Setter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,9 +18,21 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest request) {
-        String token = authService.login(request.getUsername(), request.getPassword());
-        return ResponseEntity.ok(token);
+    public ResponseEntity<AuthService.TokenPair> login(@RequestBody LoginRequest request) {
+        return ResponseEntity.ok(authService.issueTokens(request.getUsername(), request.getPassword()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthService.TokenPair> refresh(@RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String header,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        String accessToken = header != null && header.startsWith("Bearer ") ? header.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
     }
 
     @Setter
@@ -29,4 +42,10 @@ public class AuthController {
         private String username;
         private String password;
     }
+
+    @Setter
+    @Getter
+    public static class RefreshRequest {
+        private String refreshToken;
+    }
 }
@@ -0,0 +1,43 @@
+package com.coffee_management_system.main_api.controller;
+
+import com.coffee_management_system.main_api.service.LoyaltyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/loyalty")
+@RequiredArgsConstructor
+@Slf4j
+public class LoyaltyController {
+    private final LoyaltyService loyaltyService;
+
+    /**
+     * GET /api/loyalty/points - Get the authenticated user's loyalty balance
+     * Includes points from completed orders that have not been written to the database yet
+     */
+    @GetMapping("/points")
+    public ResponseEntity<Map<String, Object>> getPoints() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        log.info("Getting loyalty points for user: {}", username);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Loyalty points retrieved successfully");
+        response.put("user", username);
+        response.put("points", loyaltyService.getBalance(username));
+        response.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,57 @@
+package com.coffee_management_system.main_api.controller;
+
+import com.coffee_management_system.main_api.service.MenuCatalog;
+import com.coffee_management_system.main_api.service.MenuCatalogService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/menu")
+@RequiredArgsConstructor
+@Slf4j
+public class MenuController {
+    private final MenuCatalogService menuCatalogService;
+
+    /**
+     * GET /api/menu - Get the current menu and its version
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMenu() {
+        return ResponseEntity.ok(toResponse("Menu retrieved successfully", menuCatalogService.current()));
+    }
+
+    /**
+     * PUT /api/menu - Replace the whole menu
+     * This endpoint requires the ADMIN role
+     */
+    @PutMapping
+    public ResponseEntity<Map<String, Object>> replaceMenu(@RequestBody List<MenuCatalog.MenuItem> items) {
+        try {
+            MenuCatalog catalog = menuCatalogService.replace(items);
+            return ResponseEntity.ok(toResponse("Menu updated successfully", catalog));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected menu update: {}", e.getMessage());
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            response.put("timestamp", LocalDateTime.now());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    private static Map<String, Object> toResponse(String message, MenuCatalog catalog) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", message);
+        response.put("version", catalog.version());
+        response.put("items", catalog.items());
+        response.put("count", catalog.size());
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+}
@@ -0,0 +1,34 @@
+package com.coffee_management_system.main_api.controller;
+
+import com.coffee_management_system.main_api.service.OrderBoardService;
+import com.coffee_management_system.main_api.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/orders/stream")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBoardController {
+    private final OrderBoardService orderBoardService;
+
+    /**
+     * GET /api/orders/stream?storeId=... - Stream order creation and status changes for a store
+     * Reconnecting clients send the Last-Event-ID header to resume after the last event they saw
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            @RequestParam(defaultValue = OrderService.DEFAULT_STORE_ID) String storeId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        try {
+            return ResponseEntity.ok(orderBoardService.subscribe(storeId, lastEventId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected order board subscription: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.coffee_management_system.main_api.controller;
+
+import com.coffee_management_system.main_api.service.OrderExportService;
+import com.coffee_management_system.main_api.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/orders/export")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportController {
+    private final OrderExportService orderExportService;
+
+    /**
+     * GET /api/orders/export?from=2025-01-01&to=2025-01-31&storeId=main - Download orders as CSV
+     * This endpoint requires the ADMIN role; rows are streamed as they are read
+     */
+    @GetMapping(produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String storeId) {
+        try {
+            // Reject bad filters before the response is committed
+            OrderExportService.validateRange(from, to);
+            if (storeId != null) {
+                OrderService.validateStoreId(storeId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected order export: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        String fileName = "orders-" + (storeId != null ? storeId : "all") + "-" + from + "-" + to + ".csv";
+        StreamingResponseBody body = out -> {
+            try {
+                orderExportService.exportCsv(from, to, storeId, out);
+            } catch (SQLException e) {
+                log.error("Order export failed: {}", e.getMessage());
+                throw new IOException("Order export failed", e);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+}
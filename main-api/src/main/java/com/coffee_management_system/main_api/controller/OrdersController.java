@@ -1,26 +1,39 @@
 package com.coffee_management_system.main_api.controller;
 
+import com.coffee_management_system.main_api.service.MenuCatalog;
+import com.coffee_management_system.main_api.service.MenuCatalogService;
+import com.coffee_management_system.main_api.service.Order;
+import com.coffee_management_system.main_api.service.OrderSearchService;
+import com.coffee_management_system.main_api.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 @Slf4j
 public class OrdersController {
+    private static final Set<String> STAFF_AUTHORITIES = Set.of("ROLE_STAFF", "ROLE_ADMIN");
+
+    private final MenuCatalogService menuCatalogService;
+    private final OrderService orderService;
+    private final OrderSearchService orderSearchService;
 
     /**
-     * GET /api/orders - Get all orders for the authenticated user
+     * GET /api/orders - Get the authenticated user's most recent orders, newest first
      * This endpoint requires JWT authentication
      */
     @GetMapping
@@ -31,27 +44,9 @@ public class OrdersController {
 
         log.info("Getting orders for user: {}", username);
 
-        // Mock orders data (in a real application, this would come from a database)
-        List<Map<String, Object>> orders = new ArrayList<>();
-
-        Map<String, Object> order1 = new HashMap<>();
-        order1.put("id", 1);
-        order1.put("customerName", username);
-        order1.put("items", List.of("Espresso", "Croissant"));
-        order1.put("total", 8.50);
-        order1.put("status", "completed");
-        order1.put("orderDate", LocalDateTime.now().minusHours(2));
-
-        Map<String, Object> order2 = new HashMap<>();
-        order2.put("id", 2);
-        order2.put("customerName", username);
-        order2.put("items", List.of("Cappuccino", "Blueberry Muffin"));
-        order2.put("total", 12.75);
-        order2.put("status", "pending");
-        order2.put("orderDate", LocalDateTime.now().minusMinutes(30));
-
-        orders.add(order1);
-        orders.add(order2);
+        List<Map<String, Object>> orders = orderService.findOrdersByCustomer(username).stream()
+                .map(OrdersController::toResponse)
+                .toList();
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Orders retrieved successfully");
@@ -63,6 +58,45 @@ public class OrdersController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/orders/search?item=oat milk latte&customer=alice - Search recent orders by item and customer
+     * Orders older than the in-memory index are only searched when an older "from" is given
+     * This endpoint requires the STAFF or ADMIN role, it returns other customers' orders
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchOrders(
+            @RequestParam(required = false) String item,
+            @RequestParam(required = false) String customer,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer limit) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        long started = System.nanoTime();
+        OrderSearchService.SearchResult result;
+        try {
+            result = orderSearchService.search(item, customer, from, to, limit);
+        } catch (IllegalArgumentException e) {
+            return badRequest(username, e.getMessage());
+        }
+        long tookMicros = (System.nanoTime() - started) / 1000;
+        log.info("Order search by {} (item: {}, customer: {}) returned {} orders in {} us",
+                username, item, customer, result.orders().size(), tookMicros);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", result.complete() ? "Orders found successfully" : "Older orders are unavailable");
+        response.put("user", username);
+        response.put("orders", result.orders().stream().map(OrdersController::toResponse).toList());
+        response.put("count", result.orders().size());
+        response.put("source", result.usedDatabase() ? "index+database" : "index");
+        response.put("complete", result.complete());
+        response.put("tookMicros", tookMicros);
+        response.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/orders/{id} - Get a specific order by ID
      * This endpoint requires JWT authentication
@@ -74,19 +108,17 @@ public class OrdersController {
 
         log.info("Getting order {} for user: {}", id, username);
 
-        // Mock single order data
-        Map<String, Object> order = new HashMap<>();
-        order.put("id", id);
-        order.put("customerName", username);
-        order.put("items", List.of("Latte", "Chocolate Chip Cookie"));
-        order.put("total", 9.25);
-        order.put("status", "completed");
-        order.put("orderDate", LocalDateTime.now().minusHours(1));
+        // Other customers' orders are only visible to staff; to anyone else they do not exist
+        Optional<Order> order = orderService.findOrder(id)
+                .filter(found -> found.customerName().equals(username) || isStaff(authentication));
+        if (order.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Order retrieved successfully");
         response.put("user", username);
-        response.put("order", order);
+        response.put("order", toResponse(order.get()));
         response.put("timestamp", LocalDateTime.now());
 
         return ResponseEntity.ok(response);
@@ -104,19 +136,53 @@ public class OrdersController {
         log.info("Creating order for user: {}", username);
         log.info("Order request: {}", orderRequest);
 
-        // Mock order creation
-        Map<String, Object> newOrder = new HashMap<>();
-        newOrder.put("id", 3);
-        newOrder.put("customerName", username);
-        newOrder.put("items", orderRequest.get("items"));
-        newOrder.put("total", orderRequest.get("total"));
-        newOrder.put("status", "pending");
-        newOrder.put("orderDate", LocalDateTime.now());
+        // Prices come from the menu catalog; any client-sent total is ignored
+        Order order;
+        try {
+            MenuCatalog.PricedOrder pricedOrder = menuCatalogService.priceOrder(orderRequest.get("items"));
+            Object storeId = orderRequest.get("storeId");
+            order = orderService.createOrder(username, storeId != null ? storeId.toString() : null, pricedOrder);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected order for user {}: {}", username, e.getMessage());
+            return badRequest(username, e.getMessage());
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Order created successfully");
         response.put("user", username);
-        response.put("order", newOrder);
+        response.put("order", toResponse(order));
+        response.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * PATCH /api/orders/{id}/status - Move an open order to a new status
+     * This endpoint requires JWT authentication
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Map<String, Object>> updateOrderStatus(@PathVariable Long id,
+                                                                 @RequestBody Map<String, Object> statusRequest) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        log.info("Updating status of order {} for user: {}", id, username);
+
+        Optional<Order> order;
+        try {
+            Object status = statusRequest.get("status");
+            order = orderService.updateStatus(id, status != null ? status.toString() : null);
+        } catch (IllegalArgumentException e) {
+            return badRequest(username, e.getMessage());
+        }
+        if (order.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Order status updated successfully");
+        response.put("user", username);
+        response.put("order", toResponse(order.get()));
         response.put("timestamp", LocalDateTime.now());
 
         return ResponseEntity.ok(response);
@@ -142,4 +208,29 @@ public class OrdersController {
 
         return ResponseEntity.ok(response);
     }
+
+    private static boolean isStaff(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> STAFF_AUTHORITIES.contains(authority.getAuthority()));
+    }
+
+    private static Map<String, Object> toResponse(Order order) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", order.id());
+        response.put("storeId", order.storeId());
+        response.put("customerName", order.customerName());
+        response.put("items", order.items());
+        response.put("total", BigDecimal.valueOf(order.totalCents(), 2));
+        response.put("status", order.status());
+        response.put("orderDate", order.orderDate());
+        return response;
+    }
+
+    private static ResponseEntity<Map<String, Object>> badRequest(String username, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", message);
+        response.put("user", username);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.badRequest().body(response);
+    }
 }
\ No newline at end of file
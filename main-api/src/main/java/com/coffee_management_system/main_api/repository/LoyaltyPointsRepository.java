@@ -0,0 +1,39 @@
+package com.coffee_management_system.main_api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class LoyaltyPointsRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO loyalty_points (customer_name, points, updated_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (customer_name)
+            DO UPDATE SET points = loyalty_points.points + EXCLUDED.points, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds each delta to the customer's persisted balance in one batched statement.
+     */
+    @Transactional
+    public void addPoints(Map<String, Long> deltas) {
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((customerName, delta) -> batch.add(new Object[]{customerName, delta}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+
+    public long findPoints(String customerName) {
+        List<Long> points = jdbcTemplate.queryForList(
+                "SELECT points FROM loyalty_points WHERE customer_name = ?", Long.class, customerName);
+        return points.isEmpty() ? 0 : points.get(0);
+    }
+}
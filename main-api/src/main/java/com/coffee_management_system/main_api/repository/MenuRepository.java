@@ -0,0 +1,65 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.service.MenuCatalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores every menu as a new row of {@code menu_versions}, with the items as a JSON array of
+ * {@code {"id":1,"name":"Espresso","priceCents":400}} objects. The generated version is the
+ * catalog version, so all nodes agree on which menu is the latest.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MenuRepository {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<MenuCatalog.MenuItem>> ITEMS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the version generated for the menu
+     */
+    public long insert(List<MenuCatalog.MenuItem> items) {
+        Long version = jdbcTemplate.queryForObject("INSERT INTO menu_versions (items) VALUES (?) RETURNING version",
+                Long.class, writeItems(items));
+        if (version == null) {
+            throw new IllegalStateException("Menu insert returned no version");
+        }
+        return version;
+    }
+
+    /**
+     * @return the most recently stored menu, or empty if the menu was never replaced
+     */
+    public Optional<MenuCatalog> findLatest() {
+        return jdbcTemplate.query("SELECT version, items FROM menu_versions ORDER BY version DESC LIMIT 1",
+                (resultSet, rowNum) -> MenuCatalog.of(resultSet.getLong("version"),
+                        readItems(resultSet.getString("items"))))
+                .stream().findFirst();
+    }
+
+    private static String writeItems(List<MenuCatalog.MenuItem> items) {
+        try {
+            return JSON.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Menu items cannot be serialized", e);
+        }
+    }
+
+    private static List<MenuCatalog.MenuItem> readItems(String items) {
+        try {
+            return JSON.readValue(items, ITEMS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed menu items column: " + items, e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.service.Order;
+import com.coffee_management_system.main_api.service.OrderSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists orders to the {@code orders} table. The {@code items} column holds the item names as
+ * a JSON array of strings, e.g. {@code ["Latte","Croissant"]}; {@code item_tokens} and
+ * {@code customer_tokens} hold the {@link OrderSearchIndex#tokenize search tokens} for whole-word
+ * matching by {@link OrderSearchRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderRepository {
+    static final String COLUMNS = "id, store_id, customer_name, items, total_cents, status, created_at";
+    static final RowMapper<Order> ORDER_MAPPER = (resultSet, rowNum) -> new Order(
+            resultSet.getLong("id"),
+            resultSet.getString("store_id"),
+            resultSet.getString("customer_name"),
+            readItems(resultSet.getString("items")),
+            resultSet.getLong("total_cents"),
+            resultSet.getString("status"),
+            resultSet.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<String>> ITEMS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the id generated for the order (the order's own id is ignored)
+     */
+    public long insert(Order order) {
+        Long id = jdbcTemplate.queryForObject("""
+                        INSERT INTO orders (store_id, customer_name, items, total_cents, status, created_at,
+                                            item_tokens, customer_tokens)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        RETURNING id
+                        """, Long.class,
+                order.storeId(), order.customerName(), writeItems(order.items()), order.totalCents(),
+                order.status(), Timestamp.valueOf(order.orderDate()),
+                tokenColumn(order.items().stream().flatMap(item -> OrderSearchIndex.tokenize(item).stream()).toList()),
+                tokenColumn(OrderSearchIndex.tokenize(order.customerName())));
+        if (id == null) {
+            throw new IllegalStateException("Order insert returned no id");
+        }
+        return id;
+    }
+
+    public Optional<Order> findById(long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM orders WHERE id = ?", ORDER_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    /**
+     * @return the customer's most recent orders, newest first
+     */
+    public List<Order> findByCustomer(String customerName, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM orders WHERE customer_name = ?"
+                + " ORDER BY created_at DESC LIMIT ?", ORDER_MAPPER, customerName, limit);
+    }
+
+    /**
+     * Sets the status unless the order already has one of the final statuses. The check and the
+     * write are a single statement, so of several concurrent callers only one can move an order
+     * into a final status.
+     *
+     * @return the updated order, or empty if it does not exist or already has a final status
+     */
+    public Optional<Order> updateStatus(long id, String status, Collection<String> finalStatuses) {
+        List<Object> arguments = new ArrayList<>(List.of(status, id));
+        arguments.addAll(finalStatuses);
+        List<Order> updated = jdbcTemplate.query("UPDATE orders SET status = ? WHERE id = ? AND status NOT IN ("
+                        + String.join(", ", Collections.nCopies(finalStatuses.size(), "?")) + ") RETURNING " + COLUMNS,
+                ORDER_MAPPER, arguments.toArray());
+        return updated.stream().findFirst();
+    }
+
+    /**
+     * @return the tokens space-separated, with a leading and trailing space so every token can be
+     * matched as {@code '% token %'}
+     */
+    static String tokenColumn(Collection<String> tokens) {
+        return tokens.isEmpty() ? " " : " " + String.join(" ", new LinkedHashSet<>(tokens)) + " ";
+    }
+
+    static String writeItems(List<String> items) {
+        try {
+            return JSON.writeValueAsString(items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Order items cannot be serialized", e);
+        }
+    }
+
+    static List<String> readItems(String items) {
+        try {
+            return JSON.readValue(items, ITEMS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed items column: " + items, e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.service.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Database fallback for order searches older than the in-memory index covers. Tokens are matched
+ * as whole words against the {@code item_tokens} and {@code customer_tokens} columns, which hold
+ * the same tokens as the index, so both return the same orders for the same query. Matching scans
+ * the date range, so callers should always bound it with {@code to}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSearchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param itemTokens     tokens from {@link com.coffee_management_system.main_api.service.OrderSearchIndex#tokenize}
+     * @param customerTokens tokens from {@link com.coffee_management_system.main_api.service.OrderSearchIndex#tokenize}
+     */
+    public List<Order> search(Collection<String> itemTokens, Collection<String> customerTokens,
+                              LocalDateTime from, LocalDateTime to, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(OrderRepository.COLUMNS)
+                .append(" FROM orders WHERE created_at < ?");
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(Timestamp.valueOf(to));
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            arguments.add(Timestamp.valueOf(from));
+        }
+        // Tokens are [a-z0-9]+ only, so they need no LIKE escaping
+        for (String token : itemTokens) {
+            sql.append(" AND item_tokens LIKE ?");
+            arguments.add("% " + token + " %");
+        }
+        for (String token : customerTokens) {
+            sql.append(" AND customer_tokens LIKE ?");
+            arguments.add("% " + token + " %");
+        }
+        sql.append(" ORDER BY created_at DESC LIMIT ?");
+        arguments.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), OrderRepository.ORDER_MAPPER, arguments.toArray());
+    }
+
+    /**
+     * @return the most recent orders, newest first, for warming the index
+     */
+    public List<Order> findRecent(int limit) {
+        return jdbcTemplate.query("SELECT " + OrderRepository.COLUMNS + " FROM orders"
+                + " ORDER BY created_at DESC, id DESC LIMIT ?", OrderRepository.ORDER_MAPPER, limit);
+    }
+}
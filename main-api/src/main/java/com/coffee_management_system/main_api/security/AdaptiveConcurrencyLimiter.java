@@ -0,0 +1,130 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.ConcurrencyLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Learns how many requests main-api can have in flight before latency degrades.
+ * <p>
+ * Every {@code sample-window} completed requests the average latency of the window is compared
+ * with a slowly moving long-term average. While the window stays within {@code rtt-tolerance}
+ * of it the limit grows by its square root; when latency rises the limit shrinks in proportion
+ * (gradient), and a window containing overload signals (timeouts, 503/504) cuts it by
+ * {@code backoff-ratio} once, however many of them it contains (multiplicative decrease).
+ * Admission itself is a single CAS on the in-flight counter.
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private static final double LONG_RTT_SMOOTHING = 0.05;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // Window state, guarded by this
+    private long windowRttNanos;
+    private int windowSamples;
+    private int windowRequests;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.limit = clamp(properties.getInitialLimit());
+    }
+
+    /**
+     * @return true if the request was admitted and must later be passed to {@link #release}
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share()));
+        if (priority == RequestPriority.CRITICAL) {
+            // Health checks must answer even when the limit is fully used
+            allowed += properties.getCriticalReserve();
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request.
+     *
+     * @param rttNanos the request's latency, or a negative value to skip sampling (e.g. long streams)
+     * @param dropped  true if the request failed in a way that signals overload (not client errors)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        if (rttNanos >= 0 || dropped) {
+            onSample(rttNanos, dropped, current);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped, int inFlightAtRelease) {
+        windowDropped |= dropped;
+        if (rttNanos >= 0) {
+            windowRttNanos += rttNanos;
+            windowSamples++;
+        }
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+        // Drops count towards the window too, so a burst of them costs a single cut
+        if (++windowRequests < properties.getSampleWindow()) {
+            return;
+        }
+
+        double shortRtt = windowSamples > 0 ? (double) windowRttNanos / windowSamples : longRttNanos;
+        if (windowSamples > 0) {
+            longRttNanos = longRttNanos == 0 ? shortRtt
+                    : longRttNanos * (1 - LONG_RTT_SMOOTHING) + shortRtt * LONG_RTT_SMOOTHING;
+        }
+
+        double current = limit;
+        double target;
+        if (windowDropped) {
+            target = current * properties.getBackoffRatio();
+        } else if (windowMaxInFlight < current / 2 || shortRtt <= 0) {
+            // Not enough load to learn anything about a higher limit
+            target = current;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRtt));
+            target = current * gradient + Math.sqrt(current);
+        }
+        double next = windowDropped ? clamp(target) // back off in full, don't smooth
+                : clamp(current * (1 - properties.getSmoothing()) + target * properties.getSmoothing());
+        if ((int) next != (int) current) {
+            log.debug("Concurrency limit {} -> {} (window rtt {} us, long-term {} us, dropped: {})",
+                    (int) current, (int) next, Math.round(shortRtt / 1000), Math.round(longRttNanos / 1000),
+                    windowDropped);
+        }
+        limit = next;
+
+        windowRttNanos = 0;
+        windowSamples = 0;
+        windowRequests = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+}
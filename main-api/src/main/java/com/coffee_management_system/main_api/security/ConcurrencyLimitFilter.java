@@ -0,0 +1,127 @@
+package com.coffee_management_system.main_api.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Admits requests through the {@link AdaptiveConcurrencyLimiter} and sheds the rest at once with
+ * 503 and Retry-After, instead of letting them queue on Tomcat threads. Runs first in the
+ * security chain so a shed request costs no token parsing or user lookup.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    // Downstream timeouts and connection pool acquire timeouts
+    private static final List<Class<? extends Throwable>> OVERLOAD_FAILURES = List.of(
+            QueryTimeoutException.class, CannotGetJdbcConnectionException.class, AmqpTimeoutException.class,
+            SQLTimeoutException.class, SQLTransientConnectionException.class, SocketTimeoutException.class,
+            TimeoutException.class, AsyncRequestTimeoutException.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final int retryAfterSeconds;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPriority priority = classify(request);
+        if (priority == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire(priority)) {
+            log.debug("Shedding {} {} ({} priority, limit {})", request.getMethod(), request.getRequestURI(),
+                    priority, limiter.getLimit());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Server is busy, please retry later\"}");
+            return;
+        }
+
+        long started = System.nanoTime();
+        Throwable failure = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The thread is back in the pool, so long responses (CSV exports, up to an hour) must
+                // not keep the slot either; their latency says nothing about load, so no sample
+                limiter.release(-1, isOverload(0, failure));
+            } else {
+                limiter.release(System.nanoTime() - started, isOverload(response.getStatus(), failure));
+            }
+        }
+    }
+
+    /**
+     * Only failures caused by the service or its dependencies being saturated lower the limit.
+     * Client errors (bad input, bad credentials) and ordinary bugs do not, so no client can push
+     * the limit down by sending malformed requests.
+     */
+    static boolean isOverload(int status, Throwable failure) {
+        if (status == HttpServletResponse.SC_SERVICE_UNAVAILABLE || status == HttpServletResponse.SC_GATEWAY_TIMEOUT) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            for (Class<? extends Throwable> type : OVERLOAD_FAILURES) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true; // The slot was already released when the request went async
+    }
+
+    /**
+     * @return the request's priority, or null if it bypasses the limiter
+     */
+    static RequestPriority classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (path.startsWith("/actuator/health")) {
+            return RequestPriority.CRITICAL;
+        }
+        if (path.equals("/api/orders/stream")) {
+            return null; // Idle SSE connections hold no thread, limiting them would starve the board
+        }
+        if (path.startsWith("/api/auth/")) {
+            return RequestPriority.HIGH;
+        }
+        if (path.startsWith("/api/orders")) {
+            if (!"GET".equals(method)) {
+                return RequestPriority.HIGH;
+            }
+            if (path.equals("/api/orders") || path.startsWith("/api/orders/search")
+                    || path.startsWith("/api/orders/export")) {
+                return RequestPriority.LOW;
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+}
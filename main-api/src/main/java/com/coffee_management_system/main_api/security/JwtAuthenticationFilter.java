@@ -1,6 +1,7 @@
 package com.coffee_management_system.main_api.security;
 
 import com.coffee_management_system.main_api.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +23,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService revocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -30,8 +32,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String username = jwtUtil.getUsernameFromToken(token);
+            Claims claims = jwtUtil.parseClaims(token);
+            // Refresh tokens are only accepted by /api/auth/refresh, never as access tokens
+            if (claims != null && JwtUtil.isTokenType(claims, JwtUtil.ACCESS_TOKEN)
+                    && !revocationService.isRevoked(claims.getId())) {
+                String username = claims.getSubject();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -39,7 +44,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
             else {
-                // If token is invalid, clear the security context
+                // If token is invalid or revoked, clear the security context
                 SecurityContextHolder.clearContext();
             }
         }
@@ -1,25 +1,35 @@
 package com.coffee_management_system.main_api.security;
 
 import com.coffee_management_system.main_api.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
+    public static final String TOKEN_TYPE_CLAIM = "token_type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     private final JwtProperties jwtProperties;
 
     public String generateToken(String username) {
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                .signWith(SignatureAlgorithm.HS512, jwtProperties.getSecret())
-                .compact();
+        return buildToken(username, ACCESS_TOKEN, jwtProperties.getExpiration());
+    }
+
+    public String generateRefreshToken(String username) {
+        return buildToken(username, REFRESH_TOKEN, jwtProperties.getRefreshExpiration());
+    }
+
+    public long getAccessTokenValidity() {
+        return jwtProperties.getExpiration();
     }
 
     public String getUsernameFromToken(String token) {
@@ -38,4 +48,33 @@ public class JwtUtil {
             return false;
         }
     }
+
+    /**
+     * Parses and verifies the token in a single pass.
+     *
+     * @return the claims, or null if the token is malformed, badly signed or expired
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return Jwts.parser().setSigningKey(jwtProperties.getSecret()).parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static boolean isTokenType(Claims claims, String tokenType) {
+        return tokenType.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    private String buildToken(String username, String tokenType, long validity) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE_CLAIM, tokenType)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validity))
+                .signWith(SignatureAlgorithm.HS512, jwtProperties.getSecret())
+                .compact();
+    }
 }
@@ -0,0 +1,26 @@
+package com.coffee_management_system.main_api.security;
+
+/**
+ * Admission priority of a request. Each priority may only use its share of the current
+ * concurrency limit, so lower priorities are shed first and the rest is held in reserve.
+ * {@link #CRITICAL} requests may additionally use {@code critical-reserve} slots above the limit.
+ */
+public enum RequestPriority {
+    /** Health checks: must answer even when everything else is shed. */
+    CRITICAL(1.0),
+    /** Order writes and authentication. */
+    HIGH(0.9),
+    NORMAL(0.75),
+    /** Bulk reads such as order listing, search and export. */
+    LOW(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double share() {
+        return share;
+    }
+}
@@ -0,0 +1,71 @@
+package com.coffee_management_system.main_api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over token ids. Lookups hash the characters in place and read a few
+ * words of the bit array, so they never allocate and never block. A negative answer is exact;
+ * a positive one must be confirmed against the exact revocation set.
+ */
+final class RevocationBloomFilter {
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    RevocationBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void add(String tokenId) {
+        long h1 = hash1(tokenId);
+        long h2 = hash2(tokenId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (current, update) -> current | update);
+        }
+    }
+
+    boolean mightContain(String tokenId) {
+        long h1 = hash1(tokenId);
+        long h2 = hash2(tokenId);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash1(String value) {
+        long hash = 0xcbf29ce484222325L; // FNV-1a
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long hash2(String value) {
+        long hash = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0xbf58476d1ce4e5b9L;
+            hash ^= hash >>> 29;
+        }
+        return mix(hash) | 1; // odd, so successive probes never repeat the same bit
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,98 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of revoked token ids (the {@code jti} claim).
+ * <p>
+ * {@link #isRevoked(String)} runs on every authenticated request: it first asks a Bloom filter,
+ * which rules out almost every token without allocating or locking, and only consults the exact
+ * set on a possible hit. Entries are kept until the token would have expired anyway, after which
+ * the periodic purge drops them and rebuilds the filter.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+    private final JwtProperties.Revocation properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter filter;
+
+    public TokenRevocationService(JwtProperties jwtProperties, ApplicationEventPublisher eventPublisher) {
+        this.properties = jwtProperties.getRevocation();
+        this.eventPublisher = eventPublisher;
+        this.filter = newFilter();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        return filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes a token on this node and announces it to the other nodes.
+     *
+     * @param expiresAt the token's expiry in epoch milliseconds; the entry is kept until then
+     * @return true if this call revoked the token, false if it was already revoked (or expired)
+     */
+    public boolean revoke(String tokenId, long expiresAt) {
+        if (!apply(tokenId, expiresAt)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new TokenRevokedEvent(tokenId, expiresAt));
+        return true;
+    }
+
+    /**
+     * Records a revocation received from another node, without re-announcing it.
+     *
+     * @return true if the token was not already revoked here
+     */
+    public synchronized boolean apply(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        boolean added = revoked.putIfAbsent(tokenId, expiresAt) == null;
+        if (added) {
+            filter.add(tokenId);
+        }
+        return added;
+    }
+
+    public Map<String, Long> snapshot() {
+        return Map.copyOf(revoked);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        if (revoked.size() == before) {
+            return;
+        }
+        // Bloom filters cannot delete, so rebuild from the surviving entries
+        RevocationBloomFilter rebuilt = newFilter();
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        log.debug("Purged {} expired token revocations, {} remain", before - revoked.size(), revoked.size());
+    }
+
+    private RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(properties.getExpectedRevocations(), properties.getFalsePositiveRate());
+    }
+}
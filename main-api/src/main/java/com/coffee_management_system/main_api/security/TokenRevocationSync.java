@@ -0,0 +1,168 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps {@link TokenRevocationService} in sync across main-api nodes.
+ * <p>
+ * Every node binds its own auto-delete queue to a fanout exchange, and revocations are broadcast
+ * as {@code R:<expiresAt>:<jti>}. A node that starts up puts one {@code S} request, with its own
+ * queue as reply-to, on a snapshot queue shared by all nodes. RabbitMQ hands it to exactly one
+ * peer, which answers with all its revocations in a single {@code B} message, one
+ * {@code <expiresAt>:<jti>} per line, sent straight to the requester's queue. A starting node
+ * only begins serving snapshot requests itself once it has its own snapshot (or nobody answered
+ * in time), so it never picks up its own request while peers are available.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "sync-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationSync {
+    private static final String REVOKE = "R";
+    private static final String SNAPSHOT_REQUEST = "S";
+    private static final String SNAPSHOT = "B";
+    private static final String SNAPSHOT_LISTENER = "tokenRevocationSnapshotRequests";
+    private static final long SNAPSHOT_WAIT_MILLIS = 10000;
+
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationService revocationService;
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+
+    private final AnonymousQueue queue = new AnonymousQueue();
+
+    @Bean
+    public FanoutExchange tokenRevocationExchange() {
+        return new FanoutExchange(jwtProperties.getRevocation().getExchange());
+    }
+
+    @Bean
+    public AnonymousQueue tokenRevocationQueue() {
+        return queue;
+    }
+
+    @Bean
+    public Binding tokenRevocationBinding(FanoutExchange tokenRevocationExchange, AnonymousQueue tokenRevocationQueue) {
+        return BindingBuilder.bind(tokenRevocationQueue).to(tokenRevocationExchange);
+    }
+
+    @Bean
+    public Queue tokenRevocationSnapshotQueue() {
+        // Shared by all nodes, so each request is consumed by exactly one of them
+        return new Queue(snapshotQueueName(), false);
+    }
+
+    @EventListener
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        broadcast(REVOKE + ":" + event.expiresAt() + ":" + event.tokenId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void requestSnapshot() {
+        try {
+            rabbitTemplate.convertAndSend("", snapshotQueueName(), SNAPSHOT_REQUEST, message -> {
+                message.getMessageProperties().setReplyTo(queue.getName());
+                // A request nobody picked up before this node serves requests itself is stale
+                message.getMessageProperties().setExpiration(Long.toString(SNAPSHOT_WAIT_MILLIS));
+                return message;
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to request token revocation snapshot: {}", e.getMessage());
+        }
+        CompletableFuture.delayedExecutor(SNAPSHOT_WAIT_MILLIS, TimeUnit.MILLISECONDS)
+                .execute(this::startServingSnapshots);
+    }
+
+    @RabbitListener(id = SNAPSHOT_LISTENER, queues = "#{tokenRevocationSnapshotQueue.name}", autoStartup = "false")
+    public void onSnapshotRequest(Message request) {
+        String replyTo = request.getMessageProperties().getReplyTo();
+        if (replyTo == null || replyTo.equals(queue.getName())) {
+            return; // our own request, nobody else was around to answer it
+        }
+        Map<String, Long> snapshot = revocationService.snapshot();
+        StringBuilder body = new StringBuilder(SNAPSHOT).append('\n');
+        snapshot.forEach((tokenId, expiresAt) -> body.append(expiresAt).append(':').append(tokenId).append('\n'));
+        try {
+            rabbitTemplate.convertAndSend("", replyTo, body.toString());
+            log.debug("Sent {} token revocations to a starting node", snapshot.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to send token revocation snapshot: {}", e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{tokenRevocationQueue.name}")
+    public void onMessage(String message) {
+        if (message.startsWith(SNAPSHOT + "\n")) {
+            applySnapshot(message);
+            return;
+        }
+        String[] parts = message.split(":", 3);
+        if (parts.length != 3 || !REVOKE.equals(parts[0])) {
+            log.warn("Ignoring malformed token revocation message: {}", message);
+            return;
+        }
+        apply(parts[2], parts[1]);
+    }
+
+    private void applySnapshot(String message) {
+        int applied = 0;
+        for (String line : message.substring(SNAPSHOT.length() + 1).split("\n")) {
+            String[] parts = line.split(":", 2);
+            if (parts.length == 2 && apply(parts[1], parts[0])) {
+                applied++;
+            }
+        }
+        log.info("Received token revocation snapshot, {} new revocations", applied);
+        startServingSnapshots();
+    }
+
+    private boolean apply(String tokenId, String expiresAt) {
+        try {
+            return revocationService.apply(tokenId, Long.parseLong(expiresAt));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring token revocation with invalid expiry: {}", expiresAt);
+            return false;
+        }
+    }
+
+    private String snapshotQueueName() {
+        return jwtProperties.getRevocation().getExchange() + ".snapshot-requests";
+    }
+
+    private synchronized void startServingSnapshots() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(SNAPSHOT_LISTENER);
+        if (container != null && !container.isRunning()) {
+            container.start();
+        }
+    }
+
+    private void broadcast(String message) {
+        try {
+            rabbitTemplate.convertAndSend(jwtProperties.getRevocation().getExchange(), "", message);
+        } catch (RuntimeException e) {
+            // Local revocation still applies; other nodes catch up on their next snapshot request
+            log.error("Failed to broadcast token revocation: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.coffee_management_system.main_api.security;
+
+/**
+ * Published when this node revokes a token, so it can be broadcast to the other nodes.
+ */
+public record TokenRevokedEvent(String tokenId, long expiresAt) {
+}
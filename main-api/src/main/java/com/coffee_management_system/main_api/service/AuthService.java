@@ -1,8 +1,11 @@
 package com.coffee_management_system.main_api.service;
 
 import com.coffee_management_system.main_api.security.JwtUtil;
+import com.coffee_management_system.main_api.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -12,11 +15,64 @@ import org.springframework.stereotype.Service;
 public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService revocationService;
 
     public String login(String username, String password) {
+        return issueTokens(username, password).accessToken();
+    }
+
+    /**
+     * Authenticates the user and issues a short-lived access token plus a refresh token.
+     */
+    public TokenPair issueTokens(String username, String password) {
+        if (username == null || username.isEmpty() || password == null || password.isEmpty()) {
+            throw new IllegalArgumentException("Username or password must not be empty");
+        }
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(username, password)
         );
-        return jwtUtil.generateToken(authentication.getName());
+        if (authentication == null) {
+            throw new RuntimeException("Authentication returned null");
+        }
+        return tokensFor(authentication.getName());
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. The presented refresh token is revoked,
+     * so each one can be used only once: of two concurrent requests with the same token, only
+     * the one whose revocation inserts the id gets new tokens.
+     *
+     * @throws BadCredentialsException if the token is invalid, expired, revoked or not a refresh token
+     */
+    public TokenPair refresh(String refreshToken) {
+        Claims claims = refreshToken != null ? jwtUtil.parseClaims(refreshToken) : null;
+        if (claims == null || !JwtUtil.isTokenType(claims, JwtUtil.REFRESH_TOKEN)
+                || revocationService.isRevoked(claims.getId())) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (!revocationService.revoke(claims.getId(), claims.getExpiration().getTime())) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        return tokensFor(claims.getSubject());
+    }
+
+    /**
+     * Revokes every given token that is still valid. Unknown or expired tokens are ignored.
+     */
+    public void logout(String... tokens) {
+        for (String token : tokens) {
+            Claims claims = token != null ? jwtUtil.parseClaims(token) : null;
+            if (claims != null) {
+                revocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+        }
+    }
+
+    private TokenPair tokensFor(String username) {
+        return new TokenPair(jwtUtil.generateToken(username), jwtUtil.generateRefreshToken(username),
+                "Bearer", jwtUtil.getAccessTokenValidity() / 1000);
+    }
+
+    public record TokenPair(String accessToken, String refreshToken, String tokenType, long expiresIn) {
     }
-}
\ No newline at end of file
+}
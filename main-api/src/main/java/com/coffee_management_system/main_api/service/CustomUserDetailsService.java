@@ -6,6 +6,10 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+/**
+ * Mock users until users are stored in the database. Roles: USER places and tracks its own
+ * orders, STAFF also searches and views every customer's orders, ADMIN can do everything.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     @Override
@@ -17,6 +21,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                     .roles("USER")
                     .build();
         }
+        if ("staffuser".equals(username)) {
+            return User.withUsername("staffuser")
+                    .password("$2a$10$CFbN0sA6r5img6246frJzuzYw9/54UkwK1WtC71jJibejeMjoUS8S") // staffpassword
+                    .roles("USER", "STAFF")
+                    .build();
+        }
+        if ("adminuser".equals(username)) {
+            return User.withUsername("adminuser")
+                    .password("$2a$10$iWLoRHXN2D5HeBovDzFI6.IyoDy1pUpoWzc0GUHa3A5zA3O5hc846") // adminpassword
+                    .roles("USER", "ADMIN")
+                    .build();
+        }
         throw new UsernameNotFoundException("User not found: " + username);
     }
 }
@@ -0,0 +1,100 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.LoyaltyProperties;
+import com.coffee_management_system.main_api.repository.LoyaltyPointsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accrues loyalty points in memory and writes them to the database in batches.
+ * <p>
+ * Each customer has a {@link LongAdder}, whose internal cells spread concurrent increments for
+ * the same customer across threads instead of serializing them on one row lock. A flush reads
+ * each counter and subtracts exactly the amount it read, so increments racing with the flush stay
+ * pending for the next one and nothing is lost. If the write fails the amounts are added back.
+ * Counters are kept once created, so memory grows with the number of customers who earned points
+ * since startup, not with the number of orders.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoyaltyService {
+    private final LoyaltyPointsRepository repository;
+    private final LoyaltyProperties properties;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onOrderEvent(OrderEvent event) {
+        Order order = event.order();
+        if (event.type() == OrderEvent.Type.STATUS_CHANGED && "completed".equals(order.status())) {
+            long points = order.totalCents() / properties.getCentsPerPoint();
+            if (points > 0) {
+                accrue(order.customerName(), points);
+            }
+        }
+    }
+
+    public void accrue(String customerName, long points) {
+        pending.computeIfAbsent(customerName, key -> new LongAdder()).add(points);
+    }
+
+    /**
+     * @return the persisted balance plus points not flushed yet
+     */
+    public long getBalance(String customerName) {
+        LongAdder adder = pending.get(customerName);
+        return repository.findPoints(customerName) + (adder != null ? adder.sum() : 0);
+    }
+
+    public long getPendingPoints() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Writes all pending points in one batch.
+     *
+     * @return the number of customers whose balance was updated
+     */
+    @Scheduled(fixedDelayString = "${loyalty.flush-interval:5000}")
+    public synchronized int flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((customerName, adder) -> {
+            long points = adder.sum();
+            if (points != 0) {
+                adder.add(-points);
+                deltas.put(customerName, points);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            repository.addPoints(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach(this::accrue);
+            log.error("Failed to flush loyalty points for {} customers, will retry: {}", deltas.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("Flushed loyalty points for {} customers", deltas.size());
+        return deltas.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        long remaining = getPendingPoints();
+        if (remaining != 0) {
+            log.error("{} loyalty points could not be written at shutdown", remaining);
+        }
+    }
+}
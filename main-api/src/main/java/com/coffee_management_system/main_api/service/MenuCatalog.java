@@ -0,0 +1,163 @@
+package com.coffee_management_system.main_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the menu. Items are kept in parallel primitive arrays sorted by id,
+ * so price lookups are a binary search with no boxing. A snapshot is never modified after
+ * construction; menu changes build a new one and swap it in (see {@link MenuCatalogService}).
+ */
+public final class MenuCatalog {
+    public static final int MAX_QUANTITY_PER_LINE = 100;
+
+    private final long version;
+    private final int[] ids;
+    private final long[] pricesCents;
+    private final String[] names;
+    private final Map<String, Integer> indexByName;
+
+    private MenuCatalog(long version, int[] ids, long[] pricesCents, String[] names, Map<String, Integer> indexByName) {
+        this.version = version;
+        this.ids = ids;
+        this.pricesCents = pricesCents;
+        this.names = names;
+        this.indexByName = indexByName;
+    }
+
+    public static MenuCatalog empty() {
+        return new MenuCatalog(0, new int[0], new long[0], new String[0], Map.of());
+    }
+
+    public static MenuCatalog of(long version, List<MenuItem> items) {
+        MenuItem[] sorted = items.toArray(new MenuItem[0]);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.id(), b.id()));
+
+        int[] ids = new int[sorted.length];
+        long[] prices = new long[sorted.length];
+        String[] names = new String[sorted.length];
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < sorted.length; i++) {
+            MenuItem item = sorted[i];
+            if (item.id() <= 0) {
+                throw new IllegalArgumentException("Menu item id must be positive: " + item.id());
+            }
+            if (item.name() == null || item.name().isBlank()) {
+                throw new IllegalArgumentException("Menu item name must not be blank: " + item.id());
+            }
+            if (item.priceCents() <= 0) {
+                throw new IllegalArgumentException("Menu item price must be positive: " + item.name());
+            }
+            if (i > 0 && ids[i - 1] == item.id()) {
+                throw new IllegalArgumentException("Duplicate menu item id: " + item.id());
+            }
+            if (byName.put(normalize(item.name()), i) != null) {
+                throw new IllegalArgumentException("Duplicate menu item name: " + item.name());
+            }
+            ids[i] = item.id();
+            prices[i] = item.priceCents();
+            names[i] = item.name().trim();
+        }
+        return new MenuCatalog(version, ids, prices, names, Map.copyOf(byName));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @return the position of the item in this snapshot, or -1 if the id is not on the menu
+     */
+    public int indexOfId(int id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * @return the position of the item in this snapshot, or -1 if the name is not on the menu
+     */
+    public int indexOfName(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer index = indexByName.get(normalize(name));
+        return index != null ? index : -1;
+    }
+
+    public int idAt(int index) {
+        return ids[index];
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public long priceCentsAt(int index) {
+        return pricesCents[index];
+    }
+
+    /**
+     * Prices the given lines against this snapshot. The client never supplies a price; every
+     * amount comes from the catalog.
+     *
+     * @throws IllegalArgumentException if a line references an unknown item or an invalid quantity
+     */
+    public PricedOrder price(List<OrderLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Order must contain at least one item");
+        }
+        List<PricedLine> priced = new ArrayList<>(lines.size());
+        long totalCents = 0;
+        for (OrderLine line : lines) {
+            int index = line.itemId() > 0 ? indexOfId(line.itemId()) : indexOfName(line.name());
+            if (index < 0) {
+                throw new IllegalArgumentException("Unknown menu item: "
+                        + (line.itemId() > 0 ? String.valueOf(line.itemId()) : line.name()));
+            }
+            if (line.quantity() < 1 || line.quantity() > MAX_QUANTITY_PER_LINE) {
+                throw new IllegalArgumentException("Quantity must be between 1 and " + MAX_QUANTITY_PER_LINE
+                        + " for item: " + names[index]);
+            }
+            long lineTotal = Math.multiplyExact(pricesCents[index], line.quantity());
+            totalCents = Math.addExact(totalCents, lineTotal);
+            priced.add(new PricedLine(ids[index], names[index], line.quantity(), pricesCents[index], lineTotal));
+        }
+        return new PricedOrder(version, Collections.unmodifiableList(priced), totalCents);
+    }
+
+    public List<MenuItem> items() {
+        List<MenuItem> items = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            items.add(new MenuItem(ids[i], names[i], pricesCents[i]));
+        }
+        return items;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record MenuItem(int id, String name, long priceCents) {
+    }
+
+    /**
+     * A requested line: either {@code itemId} (when positive) or {@code name} identifies the item.
+     */
+    public record OrderLine(int itemId, String name, int quantity) {
+    }
+
+    public record PricedLine(int itemId, String name, int quantity, long unitPriceCents, long lineTotalCents) {
+    }
+
+    public record PricedOrder(long catalogVersion, List<PricedLine> lines, long totalCents) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.MenuProperties;
+import com.coffee_management_system.main_api.repository.MenuRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the current {@link MenuCatalog} snapshot. Readers just dereference a volatile field,
+ * so pricing an order takes no locks and never touches the database; writers build a complete
+ * new snapshot and publish it in a single write.
+ * <p>
+ * The configured {@code menu.items} are version 0. Replacements are stored in the database,
+ * which numbers them, so they survive restarts, and the latest stored version is loaded at
+ * startup. Other nodes switch to a replacement when {@link MenuSync} tells them about it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MenuCatalogService {
+    private final MenuProperties menuProperties;
+    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile MenuCatalog catalog = MenuCatalog.empty();
+
+    @PostConstruct
+    void loadFromProperties() {
+        List<MenuCatalog.MenuItem> items = new ArrayList<>();
+        for (MenuProperties.Item item : menuProperties.getItems()) {
+            items.add(new MenuCatalog.MenuItem(item.getId(), item.getName(), item.getPriceCents()));
+        }
+        catalog = MenuCatalog.of(0, items);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPersisted() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("Could not load the stored menu, serving the configured one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Switches to the latest stored menu if it is newer than the current one.
+     */
+    public synchronized void reload() {
+        menuRepository.findLatest().ifPresent(this::swapIfNewer);
+    }
+
+    public MenuCatalog current() {
+        return catalog;
+    }
+
+    /**
+     * Stores and switches to a new menu. In-flight pricing keeps using the snapshot it already read.
+     *
+     * @throws IllegalArgumentException if the menu is invalid; nothing is stored then
+     */
+    public MenuCatalog replace(List<MenuCatalog.MenuItem> items) {
+        MenuCatalog.of(0, items); // validates before anything is stored
+        long version = menuRepository.insert(items);
+        MenuCatalog next = MenuCatalog.of(version, items);
+        synchronized (this) {
+            swapIfNewer(next);
+        }
+        eventPublisher.publishEvent(new MenuChangedEvent(version));
+        return next;
+    }
+
+    private void swapIfNewer(MenuCatalog next) {
+        // A concurrent replacement on another node may already have been applied
+        if (next.version() > catalog.version()) {
+            catalog = next;
+            log.info("Menu catalog updated to version {} with {} items", next.version(), next.size());
+        }
+    }
+
+    /**
+     * Prices the {@code items} value of an order request. Each entry may be an item name
+     * (quantity 1) or an object with {@code id} or {@code name} and an optional {@code quantity}.
+     *
+     * @throws IllegalArgumentException if the request is malformed or references unknown items
+     */
+    public MenuCatalog.PricedOrder priceOrder(Object items) {
+        if (!(items instanceof List<?> entries)) {
+            throw new IllegalArgumentException("Order items must be a list");
+        }
+        List<MenuCatalog.OrderLine> lines = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            lines.add(toOrderLine(entry));
+        }
+        return catalog.price(lines);
+    }
+
+    private static MenuCatalog.OrderLine toOrderLine(Object entry) {
+        if (entry instanceof String name) {
+            return new MenuCatalog.OrderLine(0, name, 1);
+        }
+        if (entry instanceof Map<?, ?> line) {
+            int id = line.get("id") != null ? toInt(line.get("id"), "Item id") : 0;
+            String name = line.get("name") instanceof String value ? value : null;
+            Object requestedQuantity = line.get("quantity");
+            int quantity = requestedQuantity == null ? 1 : toInt(requestedQuantity, "Item quantity");
+            if (id <= 0 && name == null) {
+                throw new IllegalArgumentException("Order item must have an id or a name");
+            }
+            return new MenuCatalog.OrderLine(id, name, quantity);
+        }
+        throw new IllegalArgumentException("Order item must be a name or an object");
+    }
+
+    /**
+     * Converts a JSON number without coercion: fractions and values outside the int range are
+     * rejected rather than truncated or wrapped.
+     */
+    private static int toInt(Object value, String field) {
+        if (!(value instanceof Number number)) {
+            throw new IllegalArgumentException(field + " must be a number");
+        }
+        try {
+            return new BigDecimal(number.toString()).intValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException(field + " must be a whole number within range: " + number);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.coffee_management_system.main_api.service;
+
+/**
+ * Published through the application event bus after a new menu version has been stored.
+ */
+public record MenuChangedEvent(long version) {
+}
@@ -0,0 +1,77 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.MenuProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Tells other main-api nodes about menu replacements. Only the new version number is broadcast
+ * over a fanout exchange; a node that is behind reloads the menu from the database, which stays
+ * the single source of truth.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "menu", name = "sync-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MenuSync {
+    private final MenuProperties properties;
+    private final MenuCatalogService menuCatalogService;
+    private final RabbitTemplate rabbitTemplate;
+
+    private final AnonymousQueue queue = new AnonymousQueue();
+
+    @Bean
+    public FanoutExchange menuExchange() {
+        return new FanoutExchange(properties.getExchange());
+    }
+
+    @Bean
+    public AnonymousQueue menuQueue() {
+        return queue;
+    }
+
+    @Bean
+    public Binding menuBinding(FanoutExchange menuExchange, AnonymousQueue menuQueue) {
+        return BindingBuilder.bind(menuQueue).to(menuExchange);
+    }
+
+    @EventListener
+    public void onMenuChanged(MenuChangedEvent event) {
+        try {
+            rabbitTemplate.convertAndSend(properties.getExchange(), "", Long.toString(event.version()));
+        } catch (RuntimeException e) {
+            // The menu is stored; other nodes pick it up on their next restart or replacement
+            log.error("Failed to broadcast menu version {}: {}", event.version(), e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{menuQueue.name}")
+    public void onMessage(String message) {
+        long version;
+        try {
+            version = Long.parseLong(message.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed menu message: {}", message);
+            return;
+        }
+        if (version <= menuCatalogService.current().version()) {
+            return; // already serving it, e.g. our own broadcast
+        }
+        try {
+            menuCatalogService.reload();
+        } catch (DataAccessException e) {
+            log.error("Failed to load menu version {}: {}", version, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.coffee_management_system.main_api.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record Order(long id, String storeId, String customerName, List<String> items, long totalCents,
+                    String status, LocalDateTime orderDate) {
+
+    public Order withId(long newId) {
+        return new Order(newId, storeId, customerName, items, totalCents, status, orderDate);
+    }
+
+    public Order withStatus(String newStatus) {
+        return new Order(id, storeId, customerName, items, totalCents, newStatus, orderDate);
+    }
+}
@@ -0,0 +1,216 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderBoardProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans order events out to server-sent-event subscribers, per store.
+ * <p>
+ * Every subscriber owns a bounded {@link RingBuffer}; publishing only appends to those buffers
+ * and never writes to a socket, so a slow screen cannot hold up the others. When a screen falls
+ * so far behind that its buffer overflows, the pending events are replaced by a single
+ * {@value #RESET_EVENT} event telling it to reload its state. Writes happen on virtual threads,
+ * at most one per subscriber at a time, and idle connections hold no thread at all. Each store
+ * also keeps a short replay history so a screen reconnecting with {@code Last-Event-ID} resumes
+ * where it left off.
+ * <p>
+ * Event ids start from the startup time in microseconds, so ids handed out by a previous
+ * process are always lower than the first id of this one and are recognised as too old.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderBoardService {
+    public static final String RESET_EVENT = "reset";
+
+    private final OrderBoardProperties properties;
+
+    private final long firstEventId = System.currentTimeMillis() * 1000;
+    private final AtomicLong eventIds = new AtomicLong(firstEventId);
+    private final Map<String, StoreBoard> boards = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Registers a new subscriber for the store. When {@code lastEventId} is given, buffered events
+     * after it are replayed first. If some of them have already been evicted from the history, the
+     * id comes from another process or the replay does not fit the subscriber buffer, a
+     * {@value #RESET_EVENT} event tells the screen to reload its state instead.
+     */
+    public SseEmitter subscribe(String storeId, Long lastEventId) {
+        StoreBoard board = board(OrderService.validateStoreId(storeId));
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, new RingBuffer<>(properties.getSubscriberBufferSize()));
+
+        emitter.onCompletion(() -> board.subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> board.subscribers.remove(subscriber));
+
+        synchronized (board) {
+            if (lastEventId != null) {
+                if (lastEventId < board.evictedUpTo || lastEventId > eventIds.get()) {
+                    subscriber.buffer.offer(new BoardEvent(eventIds.get(), RESET_EVENT, Map.of()));
+                } else {
+                    for (BoardEvent event : board.history.snapshot()) {
+                        if (event.id() > lastEventId) {
+                            deliver(subscriber, event);
+                        }
+                    }
+                }
+            }
+            board.subscribers.add(subscriber);
+        }
+        log.debug("New order board subscriber for store {} ({} total)", board.storeId, board.subscribers.size());
+        scheduleSend(board, subscriber, false);
+        return emitter;
+    }
+
+    @EventListener
+    public void onOrderEvent(OrderEvent event) {
+        publish(event.order().storeId(), event.type().eventName(), event.order());
+    }
+
+    void publish(String storeId, String name, Object data) {
+        StoreBoard board = board(storeId);
+        synchronized (board) {
+            BoardEvent event = new BoardEvent(eventIds.incrementAndGet(), name, data);
+            BoardEvent evicted = board.history.offer(event);
+            if (evicted != null) {
+                board.evictedUpTo = evicted.id();
+            }
+            for (Subscriber subscriber : board.subscribers) {
+                deliver(subscriber, event);
+            }
+        }
+        for (Subscriber subscriber : board.subscribers) {
+            scheduleSend(board, subscriber, false);
+        }
+    }
+
+    /**
+     * Sends a comment line to idle subscribers so proxies keep the connection open and dead
+     * connections are detected and removed.
+     */
+    @Scheduled(fixedDelayString = "${order-board.heartbeat-interval:15000}")
+    public void sendHeartbeats() {
+        for (StoreBoard board : boards.values()) {
+            for (Subscriber subscriber : board.subscribers) {
+                scheduleSend(board, subscriber, true);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return boards.values().stream().mapToInt(board -> board.subscribers.size()).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (StoreBoard board : boards.values()) {
+            board.subscribers.forEach(subscriber -> subscriber.emitter.complete());
+            board.subscribers.clear();
+        }
+        senders.shutdown();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(properties.getEmitterTimeout());
+    }
+
+    private StoreBoard board(String storeId) {
+        return boards.computeIfAbsent(storeId, id -> new StoreBoard(id, properties.getHistorySize(), firstEventId));
+    }
+
+    /**
+     * Appends an event to a subscriber buffer. On overflow the screen has missed events, so
+     * everything still pending is replaced by a reset carrying the id of this event: after
+     * reloading, the screen is up to date with it and resumes from there.
+     */
+    private static void deliver(Subscriber subscriber, BoardEvent event) {
+        if (subscriber.buffer.offer(event) != null) {
+            subscriber.resets.incrementAndGet();
+            subscriber.buffer.clear();
+            subscriber.buffer.offer(new BoardEvent(event.id(), RESET_EVENT, Map.of()));
+        }
+    }
+
+    private void scheduleSend(StoreBoard board, Subscriber subscriber, boolean heartbeat) {
+        if (!heartbeat && subscriber.buffer.isEmpty()) {
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(board, subscriber, heartbeat));
+        }
+    }
+
+    private void send(StoreBoard board, Subscriber subscriber, boolean heartbeat) {
+        try {
+            if (heartbeat && subscriber.buffer.isEmpty()) {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            }
+            BoardEvent event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.id()))
+                        .name(event.name())
+                        .data(event.data()));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping order board subscriber for store {}: {}", board.storeId, e.getMessage());
+            board.subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+        if (subscriber.resets.get() > 0) {
+            log.debug("Order board subscriber for store {} has fallen behind and been reset {} times so far",
+                    board.storeId, subscriber.resets.get());
+        }
+        // An event may have arrived after the last poll but before the flag was cleared
+        scheduleSend(board, subscriber, false);
+    }
+
+    record BoardEvent(long id, String name, Object data) {
+    }
+
+    private static final class StoreBoard {
+        private final String storeId;
+        private final RingBuffer<BoardEvent> history;
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private long evictedUpTo; // guarded by this
+
+        private StoreBoard(String storeId, int historySize, long firstEventId) {
+            this.storeId = storeId;
+            this.history = new RingBuffer<>(historySize);
+            this.evictedUpTo = firstEventId;
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final RingBuffer<BoardEvent> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicLong resets = new AtomicLong();
+
+        private Subscriber(SseEmitter emitter, RingBuffer<BoardEvent> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
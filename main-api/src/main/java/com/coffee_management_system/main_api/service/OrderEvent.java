@@ -0,0 +1,22 @@
+package com.coffee_management_system.main_api.service;
+
+/**
+ * Published through the application event bus whenever an order is created or changes status.
+ */
+public record OrderEvent(Type type, Order order) {
+
+    public enum Type {
+        CREATED("order-created"),
+        STATUS_CHANGED("order-status-changed");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+}
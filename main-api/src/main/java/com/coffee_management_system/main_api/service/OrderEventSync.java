@@ -0,0 +1,88 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderBoardProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Shares order events between main-api nodes, so store screens and the search index see orders
+ * placed and updated on any node.
+ * <p>
+ * Every node binds its own auto-delete queue to a fanout exchange and broadcasts each local
+ * {@link OrderEvent} as JSON, tagged with its queue name as origin. Events from other nodes go
+ * straight to the board and the search index; they are not republished as application events, so
+ * node-local side effects such as loyalty points only happen on the node that made the change.
+ * Status changes are broadcast while the order's row is still locked (see
+ * {@link OrderService#updateStatus}), so the changes of one order are sent in commit order.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "order-board", name = "sync-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventSync {
+    private final OrderBoardProperties properties;
+    private final OrderBoardService boardService;
+    private final OrderSearchIndex searchIndex;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final AnonymousQueue queue = new AnonymousQueue();
+
+    @Bean
+    public FanoutExchange orderEventExchange() {
+        return new FanoutExchange(properties.getExchange());
+    }
+
+    @Bean
+    public AnonymousQueue orderEventQueue() {
+        return queue;
+    }
+
+    @Bean
+    public Binding orderEventBinding(FanoutExchange orderEventExchange, AnonymousQueue orderEventQueue) {
+        return BindingBuilder.bind(orderEventQueue).to(orderEventExchange);
+    }
+
+    @EventListener
+    public void onOrderEvent(OrderEvent event) {
+        try {
+            String message = objectMapper.writeValueAsString(new SyncMessage(queue.getName(), event.type(), event.order()));
+            rabbitTemplate.convertAndSend(properties.getExchange(), "", message);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The change itself is committed; other nodes' screens catch up on their next reset
+            log.error("Failed to broadcast order event for order {}: {}", event.order().id(), e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{orderEventQueue.name}")
+    public void onMessage(String message) {
+        SyncMessage received;
+        try {
+            received = objectMapper.readValue(message, SyncMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed order event message: {}", e.getOriginalMessage());
+            return;
+        }
+        if (received.type() == null || received.order() == null || queue.getName().equals(received.origin())) {
+            return; // malformed, or our own broadcast coming back
+        }
+        OrderEvent event = new OrderEvent(received.type(), received.order());
+        boardService.onOrderEvent(event);
+        searchIndex.onOrderEvent(event);
+    }
+
+    record SyncMessage(String origin, OrderEvent.Type type, Order order) {
+    }
+}
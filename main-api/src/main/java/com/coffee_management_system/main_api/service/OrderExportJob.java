@@ -0,0 +1,40 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderExportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Nightly accounting export: writes one CSV per store for the previous day into
+ * {@code export.orders.directory}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "export.orders", name = "nightly-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportJob {
+    private final OrderExportService orderExportService;
+    private final OrderExportProperties properties;
+
+    @Scheduled(cron = "${export.orders.cron:0 30 2 * * *}")
+    public void exportPreviousDay() {
+        LocalDate day = LocalDate.now().minusDays(1);
+        try {
+            for (String storeId : orderExportService.findStoreIds(day, day)) {
+                Path file = Path.of(properties.getDirectory(), "orders-" + storeId + "-" + day + ".csv");
+                long rows = orderExportService.exportToFile(day, day, storeId, file);
+                log.info("Nightly export wrote {} orders for store {} to {}", rows, storeId, file);
+            }
+        } catch (SQLException | IOException e) {
+            log.error("Nightly order export for {} failed: {}", day, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.coffee_management_system.main_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exports orders as CSV with PostgreSQL {@code COPY ... TO STDOUT}. Rows go straight from the
+ * driver's protocol stream to the output stream without being hydrated into objects, so memory
+ * use stays the same whatever the size of the export.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Four-digit years only, so every date (and the day after the last) renders as a plain SQL DATE literal
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 30);
+
+    private final DataSource dataSource;
+
+    /**
+     * Writes orders created in {@code [from, to]} (inclusive dates), optionally for one store.
+     *
+     * @return the number of rows exported
+     * @throws IllegalArgumentException if the range or store id is invalid
+     */
+    public long exportCsv(LocalDate from, LocalDate to, String storeId, OutputStream out)
+            throws SQLException, IOException {
+        String sql = buildCopySql(from, to, storeId);
+        long started = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+            rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, buffered);
+            buffered.flush();
+        }
+        double seconds = Math.max(System.nanoTime() - started, 1) / 1_000_000_000.0;
+        log.info("Exported {} orders ({} to {}, store {}) in {} ms, {} rows/sec",
+                rows, from, to, storeId != null ? storeId : "all", Math.round(seconds * 1000),
+                Math.round(rows / seconds));
+        return rows;
+    }
+
+    public long exportToFile(LocalDate from, LocalDate to, String storeId, Path file)
+            throws SQLException, IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            return exportCsv(from, to, storeId, out);
+        }
+    }
+
+    /**
+     * @return the stores that have orders created in {@code [from, to]}
+     */
+    public List<String> findStoreIds(LocalDate from, LocalDate to) throws SQLException {
+        String sql = "SELECT DISTINCT store_id FROM orders WHERE created_at >= ? AND created_at < ? ORDER BY store_id";
+        List<String> storeIds = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setDate(2, Date.valueOf(to.plusDays(1)));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    storeIds.add(resultSet.getString(1));
+                }
+            }
+        }
+        return storeIds;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a date is missing or out of range, or the range is reversed
+     */
+    public static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Export range needs both a from and a to date");
+        }
+        if (from.isBefore(EARLIEST_DATE) || to.isAfter(LATEST_DATE)) {
+            throw new IllegalArgumentException("Export dates must be between " + EARLIEST_DATE + " and " + LATEST_DATE);
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Export range end must not be before its start");
+        }
+    }
+
+    /**
+     * COPY cannot take bind parameters, so the filter values are inlined. Dates are rendered
+     * from {@link LocalDate} and the store id must match the strict store id pattern, so neither
+     * can carry SQL.
+     */
+    static String buildCopySql(LocalDate from, LocalDate to, String storeId) {
+        validateRange(from, to);
+        StringBuilder sql = new StringBuilder(256)
+                .append("COPY (SELECT id, store_id, customer_name, items, ")
+                .append("(total_cents / 100.0)::numeric(12, 2) AS total, status, created_at ")
+                .append("FROM orders WHERE created_at >= DATE '").append(from)
+                .append("' AND created_at < DATE '").append(to.plusDays(1)).append('\'');
+        if (storeId != null) {
+            sql.append(" AND store_id = '").append(OrderService.validateStoreId(storeId)).append('\'');
+        }
+        return sql.append(" ORDER BY id) TO STDOUT WITH (FORMAT csv, HEADER)").toString();
+    }
+}
@@ -0,0 +1,324 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the most recent orders, maintained from {@link OrderEvent}s.
+ * <p>
+ * Every indexed order gets a sequential int document id and lives in a fixed-size ring of
+ * documents. Item tokens and customer name tokens map to posting lists of those ids stored as
+ * plain {@code int[]}; ids only ever grow, so lists stay sorted without any sorting and the
+ * oldest entry of a list is always the next one to be evicted. Queries intersect the posting
+ * lists by walking the shortest one and binary-searching the others.
+ * <p>
+ * At startup {@link OrderSearchService} warms the index with the most recent orders from the
+ * database; until then it only covers orders placed since the node started.
+ */
+@Component
+public class OrderSearchIndex {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private final int capacity;
+    private final Order[] documents;
+    private final Map<String, PostingList> itemPostings = new HashMap<>();
+    private final Map<String, PostingList> customerPostings = new HashMap<>();
+    private final Map<Long, Integer> documentByOrderId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int nextDocument;
+    private LocalDateTime coveredSince = LocalDateTime.now();
+
+    public OrderSearchIndex(OrderSearchProperties properties) {
+        this.capacity = properties.getCapacity();
+        this.documents = new Order[capacity];
+    }
+
+    @EventListener
+    public void onOrderEvent(OrderEvent event) {
+        if (event.type() == OrderEvent.Type.CREATED) {
+            add(event.order());
+        } else {
+            update(event.order());
+        }
+    }
+
+    public void add(Order order) {
+        lock.writeLock().lock();
+        try {
+            int document = nextDocument++;
+            int slot = document % capacity;
+            Order evicted = documents[slot];
+            if (evicted != null) {
+                evict(document - capacity, evicted);
+            }
+            documents[slot] = order;
+            if (evicted != null) {
+                // Everything before the oldest remaining order has to come from the database
+                coveredSince = documents[oldestDocument() % capacity].orderDate();
+            }
+            documentByOrderId.put(order.id(), document);
+            for (String token : itemTokens(order)) {
+                itemPostings.computeIfAbsent(token, key -> new PostingList()).append(document);
+            }
+            for (String token : tokenize(order.customerName())) {
+                customerPostings.computeIfAbsent(token, key -> new PostingList()).append(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads orders placed before this node started. Orders indexed in the meantime are kept and
+     * win over a loaded copy of the same order; if there are more than fit, the oldest are dropped.
+     *
+     * @param recentOrders the most recent orders, newest first
+     * @param all          true if these are all the orders there are, so the index covers every date
+     */
+    public void warm(List<Order> recentOrders, boolean all) {
+        List<Order> loaded = recentOrders;
+        LocalDateTime loadedSince = LocalDateTime.MIN;
+        if (!all && !recentOrders.isEmpty()) {
+            // Not every order sharing the oldest loaded date may have been loaded, so that date
+            // is left to the database
+            LocalDateTime cutoff = recentOrders.get(recentOrders.size() - 1).orderDate();
+            loaded = recentOrders.stream().filter(order -> order.orderDate().isAfter(cutoff)).toList();
+            if (loaded.isEmpty()) {
+                return;
+            }
+            loadedSince = loaded.get(loaded.size() - 1).orderDate();
+        }
+        lock.writeLock().lock();
+        try {
+            Map<Long, Order> merged = new HashMap<>();
+            for (Order order : loaded) {
+                merged.put(order.id(), order);
+            }
+            for (int document = oldestDocument(); document < nextDocument; document++) {
+                Order order = documents[document % capacity];
+                merged.put(order.id(), order);
+            }
+            List<Order> ordered = new ArrayList<>(merged.values());
+            ordered.sort(Comparator.comparing(Order::orderDate).thenComparingLong(Order::id));
+            List<Order> kept = ordered.subList(Math.max(0, ordered.size() - capacity), ordered.size());
+
+            Arrays.fill(documents, null);
+            itemPostings.clear();
+            customerPostings.clear();
+            documentByOrderId.clear();
+            nextDocument = 0;
+            for (Order order : kept) {
+                add(order);
+            }
+            coveredSince = kept.size() < ordered.size() ? kept.get(0).orderDate() : loadedSince;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the stored order (e.g. after a status change). Items and customer never change,
+     * so the posting lists stay as they are.
+     */
+    public void update(Order order) {
+        lock.writeLock().lock();
+        try {
+            Integer document = documentByOrderId.get(order.id());
+            if (document != null) {
+                documents[document % capacity] = order;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds indexed orders matching all item tokens and all customer tokens, newest first.
+     * A blank item or customer query does not constrain the result.
+     */
+    public List<Order> search(String itemQuery, String customerQuery, LocalDateTime from, LocalDateTime to,
+                              int limit) {
+        Set<String> itemTokens = tokenize(itemQuery);
+        Set<String> customerTokens = tokenize(customerQuery);
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(itemTokens.size() + customerTokens.size());
+            if (!collect(itemPostings, itemTokens, lists) || !collect(customerPostings, customerTokens, lists)) {
+                return List.of();
+            }
+            List<Order> results = new ArrayList<>(Math.min(limit, 64));
+            if (lists.isEmpty()) {
+                for (int document = nextDocument - 1; document >= oldestDocument() && results.size() < limit; document--) {
+                    addIfInRange(documents[document % capacity], from, to, results);
+                }
+                return results;
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            PostingList shortest = lists.get(0);
+            for (int i = shortest.size() - 1; i >= 0 && results.size() < limit; i--) {
+                int document = shortest.get(i);
+                if (containedInAll(lists, document)) {
+                    addIfInRange(documents[document % capacity], from, to, results);
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the earliest order date the index fully covers; older orders must come from the database
+     */
+    public LocalDateTime coveredSince() {
+        lock.readLock().lock();
+        try {
+            return coveredSince;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nextDocument - oldestDocument();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cases, strips accents and splits on anything that is not a letter or digit, so
+     * "Oat-Milk Latté" and "oat milk latte" produce the same tokens.
+     */
+    public static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        String normalized = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> itemTokens(Order order) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String item : order.items()) {
+            tokens.addAll(tokenize(item));
+        }
+        return tokens;
+    }
+
+    private void evict(int document, Order order) {
+        documentByOrderId.remove(order.id());
+        for (String token : itemTokens(order)) {
+            removeOldest(itemPostings, token, document);
+        }
+        for (String token : tokenize(order.customerName())) {
+            removeOldest(customerPostings, token, document);
+        }
+    }
+
+    private static void removeOldest(Map<String, PostingList> postings, String token, int document) {
+        PostingList list = postings.get(token);
+        if (list != null && list.size() > 0 && list.get(0) == document) {
+            list.removeFirst();
+            if (list.size() == 0) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static boolean collect(Map<String, PostingList> postings, Set<String> tokens, List<PostingList> lists) {
+        for (String token : tokens) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                return false;
+            }
+            lists.add(list);
+        }
+        return true;
+    }
+
+    private static boolean containedInAll(List<PostingList> lists, int document) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addIfInRange(Order order, LocalDateTime from, LocalDateTime to, List<Order> results) {
+        if ((from == null || !order.orderDate().isBefore(from)) && (to == null || order.orderDate().isBefore(to))) {
+            results.add(order);
+        }
+    }
+
+    private int oldestDocument() {
+        return Math.max(0, nextDocument - capacity);
+    }
+
+    /**
+     * Ascending int list that only grows at the tail and shrinks at the head.
+     */
+    private static final class PostingList {
+        private int[] documents = new int[4];
+        private int start;
+        private int end;
+
+        void append(int document) {
+            if (end == documents.length) {
+                int live = end - start;
+                if (start > 0 && live <= documents.length / 2) {
+                    System.arraycopy(documents, start, documents, 0, live);
+                } else {
+                    documents = Arrays.copyOfRange(documents, start, start + Math.max(4, live * 2));
+                }
+                start = 0;
+                end = live;
+            }
+            documents[end++] = document;
+        }
+
+        void removeFirst() {
+            start++;
+        }
+
+        int size() {
+            return end - start;
+        }
+
+        int get(int index) {
+            return documents[start + index];
+        }
+
+        boolean contains(int document) {
+            return Arrays.binarySearch(documents, start, end, document) >= 0;
+        }
+    }
+}
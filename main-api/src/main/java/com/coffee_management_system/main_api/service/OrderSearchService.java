@@ -0,0 +1,81 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
+import com.coffee_management_system.main_api.repository.OrderSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers order searches from {@link OrderSearchIndex} and falls back to the database only for
+ * the part of the requested range that is older than the index covers. Searches without a
+ * {@code from} date only look at indexed orders.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSearchService {
+    private final OrderSearchIndex index;
+    private final OrderSearchRepository repository;
+    private final OrderSearchProperties properties;
+
+    /**
+     * Loads the most recent orders into the index, so searches cover them right after a restart
+     * and only reach the database for orders older than the index can hold.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpIndex() {
+        long started = System.nanoTime();
+        try {
+            List<Order> recent = repository.findRecent(properties.getCapacity());
+            index.warm(recent, recent.size() < properties.getCapacity());
+            log.info("Loaded {} recent orders into the search index in {} ms, covering orders since {}",
+                    recent.size(), (System.nanoTime() - started) / 1_000_000, index.coveredSince());
+        } catch (DataAccessException e) {
+            log.warn("Could not warm the order search index, only new orders are indexed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if no search criteria are given or the range is reversed
+     */
+    public SearchResult search(String item, String customer, LocalDateTime from, LocalDateTime to, Integer limit) {
+        if (OrderSearchIndex.tokenize(item).isEmpty() && OrderSearchIndex.tokenize(customer).isEmpty()) {
+            throw new IllegalArgumentException("Search needs an item or a customer");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Search range start must be before its end");
+        }
+        int max = limit == null ? properties.getMaxResults() : Math.max(1, Math.min(limit, properties.getMaxResults()));
+
+        List<Order> orders = new ArrayList<>(index.search(item, customer, from, to, max));
+        LocalDateTime coveredSince = index.coveredSince();
+        // Without an explicit older start date only recent (indexed) orders are searched
+        if (from == null || !from.isBefore(coveredSince) || orders.size() >= max) {
+            return new SearchResult(orders, false, true);
+        }
+
+        LocalDateTime databaseTo = to == null || to.isAfter(coveredSince) ? coveredSince : to;
+        try {
+            orders.addAll(repository.search(OrderSearchIndex.tokenize(item), OrderSearchIndex.tokenize(customer),
+                    from, databaseTo, max - orders.size()));
+            return new SearchResult(orders, true, true);
+        } catch (DataAccessException e) {
+            log.warn("Order search database fallback failed, returning indexed results only: {}", e.getMessage());
+            return new SearchResult(orders, true, false);
+        }
+    }
+
+    /**
+     * @param complete false if older orders could not be searched because the database failed
+     */
+    public record SearchResult(List<Order> orders, boolean usedDatabase, boolean complete) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Persists orders and publishes an {@link OrderEvent} for every change. The database is the only
+ * record of an order, so any node can update any order, including after a restart. Once an order
+ * is completed or cancelled its status can no longer change. Events reach other nodes through
+ * {@link OrderEventSync} when it is enabled.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderService {
+    public static final String DEFAULT_STORE_ID = "main";
+    public static final Set<String> STATUSES = Set.of("pending", "preparing", "ready", "completed", "cancelled");
+    private static final Set<String> TERMINAL_STATUSES = Set.of("completed", "cancelled");
+    private static final int CUSTOMER_ORDERS_LIMIT = 50;
+    private static final Pattern STORE_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,32}");
+
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @throws IllegalArgumentException if the store id is malformed
+     */
+    public Order createOrder(String customerName, String storeId, MenuCatalog.PricedOrder pricedOrder) {
+        String store = validateStoreId(storeId);
+        Order draft = new Order(0, store, customerName,
+                pricedOrder.lines().stream().map(MenuCatalog.PricedLine::name).toList(),
+                pricedOrder.totalCents(), "pending", LocalDateTime.now());
+        Order order = draft.withId(orderRepository.insert(draft));
+        eventPublisher.publishEvent(new OrderEvent(OrderEvent.Type.CREATED, order));
+        return order;
+    }
+
+    public Optional<Order> findOrder(long id) {
+        return orderRepository.findById(id);
+    }
+
+    /**
+     * @return the customer's most recent orders, newest first
+     */
+    public List<Order> findOrdersByCustomer(String customerName) {
+        return orderRepository.findByCustomer(customerName, CUSTOMER_ORDERS_LIMIT);
+    }
+
+    /**
+     * The event is published inside the transaction, while the UPDATE still holds the order's row
+     * lock, so a concurrent change to the same order waits and listeners see the changes of one
+     * order in the order they were committed.
+     *
+     * @return the updated order, or empty if no order has this id or it is already completed or cancelled
+     * @throws IllegalArgumentException if the status is unknown
+     */
+    @Transactional
+    public Optional<Order> updateStatus(long id, String status) {
+        if (status == null || !STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Status must be one of " + STATUSES);
+        }
+        // The database checks and writes in one statement, so only one caller can complete an order
+        Optional<Order> result = orderRepository.updateStatus(id, status, TERMINAL_STATUSES);
+        if (result.isEmpty()) {
+            return result;
+        }
+        Order updated = result.get();
+        log.debug("Order {} in store {} is now {}", id, updated.storeId(), status);
+        eventPublisher.publishEvent(new OrderEvent(OrderEvent.Type.STATUS_CHANGED, updated));
+        return Optional.of(updated);
+    }
+
+    public static String validateStoreId(String storeId) {
+        if (storeId == null) {
+            return DEFAULT_STORE_ID;
+        }
+        if (!STORE_ID_PATTERN.matcher(storeId).matches()) {
+            throw new IllegalArgumentException("Store id must be 1-32 letters, digits, '-' or '_'");
+        }
+        return storeId;
+    }
+}
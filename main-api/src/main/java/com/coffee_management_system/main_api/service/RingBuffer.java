@@ -0,0 +1,75 @@
+package com.coffee_management_system.main_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded FIFO buffer with drop-oldest semantics: offering to a full buffer evicts the oldest
+ * element instead of blocking or rejecting. All methods are synchronized; critical sections are
+ * a few array operations, so contention stays negligible.
+ */
+final class RingBuffer<T> {
+    private final Object[] slots;
+    private int head;
+    private int size;
+
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 1");
+        }
+        this.slots = new Object[capacity];
+    }
+
+    /**
+     * @return the element evicted to make room, or null if the buffer was not full
+     */
+    @SuppressWarnings("unchecked")
+    synchronized T offer(T element) {
+        T evicted = null;
+        if (size == slots.length) {
+            evicted = (T) slots[head];
+            slots[head] = element;
+            head = (head + 1) % slots.length;
+        } else {
+            slots[(head + size) % slots.length] = element;
+            size++;
+        }
+        return evicted;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T element = (T) slots[head];
+        slots[head] = null;
+        head = (head + 1) % slots.length;
+        size--;
+        return element;
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized List<T> snapshot() {
+        List<T> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add((T) slots[(head + i) % slots.length]);
+        }
+        return elements;
+    }
+
+    synchronized void clear() {
+        Arrays.fill(slots, null);
+        head = 0;
+        size = 0;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
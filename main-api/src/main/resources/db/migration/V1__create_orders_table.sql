@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS orders (
+    id            BIGSERIAL PRIMARY KEY,
+    store_id      VARCHAR(32)  NOT NULL,
+    customer_name VARCHAR(255) NOT NULL,
+    items         TEXT         NOT NULL,
+    total_cents   BIGINT       NOT NULL,
+    status        VARCHAR(16)  NOT NULL,
+    created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Supports per-store, date-range exports without scanning other stores
+CREATE INDEX IF NOT EXISTS idx_orders_store_created_at ON orders (store_id, created_at);
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS loyalty_points (
+    customer_name VARCHAR(255) PRIMARY KEY,
+    points        BIGINT    NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
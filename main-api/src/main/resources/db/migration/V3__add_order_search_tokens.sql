@@ -0,0 +1,18 @@
+-- Whole-word search columns for the order search database fallback. The application fills them
+-- with the same tokens as the in-memory index (lower case, accents stripped, split on anything
+-- that is not a letter or digit), space-separated with a leading and trailing space, so a token
+-- matches with LIKE '% token %' exactly as it would in the index.
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS item_tokens TEXT;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS customer_tokens TEXT;
+
+-- Best-effort backfill for rows written before these columns existed (accents are not stripped)
+UPDATE orders
+SET item_tokens     = ' ' || trim(regexp_replace(lower(items), '[^a-z0-9]+', ' ', 'g')) || ' ',
+    customer_tokens = ' ' || trim(regexp_replace(lower(customer_name), '[^a-z0-9]+', ' ', 'g')) || ' '
+WHERE item_tokens IS NULL;
+
+ALTER TABLE orders ALTER COLUMN item_tokens SET NOT NULL;
+ALTER TABLE orders ALTER COLUMN customer_tokens SET NOT NULL;
+
+-- The search fallback filters by date across all stores
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders (created_at);
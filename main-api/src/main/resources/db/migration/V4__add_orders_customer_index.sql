@@ -0,0 +1,2 @@
+-- Serves a customer's order history (GET /api/orders) without scanning every store's orders
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created_at ON orders (customer_name, created_at);
@@ -0,0 +1,7 @@
+-- Every menu replacement (PUT /api/menu) is stored as a new version and all nodes serve the
+-- highest one. Until the first replacement the menu comes from the menu.items configuration.
+CREATE TABLE IF NOT EXISTS menu_versions (
+    version    BIGSERIAL PRIMARY KEY,
+    items      TEXT      NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
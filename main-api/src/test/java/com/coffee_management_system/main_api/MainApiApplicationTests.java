@@ -1,10 +1,11 @@
 package com.coffee_management_system.main_api;
 
+import com.coffee_management_system.main_api.repository.PostgresTestSupport;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
-class MainApiApplicationTests {
+class MainApiApplicationTests extends PostgresTestSupport {
 
 	@Test
 	void contextLoads() {
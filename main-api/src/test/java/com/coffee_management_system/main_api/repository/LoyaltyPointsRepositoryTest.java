@@ -0,0 +1,52 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.config.LoyaltyProperties;
+import com.coffee_management_system.main_api.service.LoyaltyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoyaltyPointsRepositoryTest extends PostgresTestSupport {
+    private JdbcTemplate jdbcTemplate;
+    private LoyaltyPointsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource());
+        truncate(jdbcTemplate, "loyalty_points");
+        repository = new LoyaltyPointsRepository(jdbcTemplate);
+    }
+
+    @Test
+    void addPoints_ShouldInsertNewCustomersAndAccumulateExistingOnes() {
+        repository.addPoints(Map.of("alice", 10L, "bob", 3L));
+        repository.addPoints(Map.of("alice", 5L));
+
+        assertEquals(15, repository.findPoints("alice"));
+        assertEquals(3, repository.findPoints("bob"));
+    }
+
+    @Test
+    void flush_ShouldPersistAccruedPoints() {
+        LoyaltyService loyaltyService = new LoyaltyService(repository, new LoyaltyProperties());
+        loyaltyService.accrue("alice", 7);
+        loyaltyService.accrue("alice", 2);
+
+        assertEquals(1, loyaltyService.flush());
+
+        assertEquals(0, loyaltyService.getPendingPoints());
+        assertEquals(9, repository.findPoints("alice"));
+        assertEquals(9, loyaltyService.getBalance("alice"));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void findPoints_ShouldReturnZero_WhenCustomerHasNoRow() {
+        assertEquals(0, repository.findPoints("nobody"));
+    }
+}
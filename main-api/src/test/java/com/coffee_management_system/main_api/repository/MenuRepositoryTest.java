@@ -0,0 +1,40 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.service.MenuCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuRepositoryTest extends PostgresTestSupport {
+    private MenuRepository menuRepository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource());
+        truncate(jdbcTemplate, "menu_versions");
+        menuRepository = new MenuRepository(jdbcTemplate);
+    }
+
+    @Test
+    void findLatest_ShouldReturnMostRecentlyStoredMenu() {
+        long first = menuRepository.insert(List.of(new MenuCatalog.MenuItem(1, "Espresso", 400)));
+        long second = menuRepository.insert(List.of(new MenuCatalog.MenuItem(1, "Espresso", 425),
+                new MenuCatalog.MenuItem(3, "Latte", 550)));
+
+        MenuCatalog latest = menuRepository.findLatest().orElseThrow();
+
+        assertTrue(second > first);
+        assertEquals(second, latest.version());
+        assertEquals(List.of(new MenuCatalog.MenuItem(1, "Espresso", 425), new MenuCatalog.MenuItem(3, "Latte", 550)),
+                latest.items());
+    }
+
+    @Test
+    void findLatest_ShouldReturnEmpty_WhenMenuWasNeverReplaced() {
+        assertTrue(menuRepository.findLatest().isEmpty());
+    }
+}
@@ -0,0 +1,109 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.service.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRepositoryTest extends PostgresTestSupport {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 20, 9, 0);
+    private static final Set<String> FINAL_STATUSES = Set.of("completed", "cancelled");
+
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource());
+        truncate(jdbcTemplate, "orders");
+        orderRepository = new OrderRepository(jdbcTemplate);
+    }
+
+    @Test
+    void findById_ShouldReadBackInsertedOrder() {
+        Order order = order("Alice", NOW);
+        long id = orderRepository.insert(order);
+
+        assertEquals(order.withId(id), orderRepository.findById(id).orElseThrow());
+        assertTrue(orderRepository.findById(id + 1).isEmpty());
+    }
+
+    @Test
+    void findByCustomer_ShouldReturnOnlyTheCustomersOrdersNewestFirst() {
+        long older = orderRepository.insert(order("Alice", NOW.minusHours(2)));
+        orderRepository.insert(order("Bob", NOW.minusHours(1)));
+        long newer = orderRepository.insert(order("Alice", NOW));
+
+        assertEquals(List.of(newer, older), orderRepository.findByCustomer("Alice", 10).stream().map(Order::id).toList());
+        assertEquals(1, orderRepository.findByCustomer("Alice", 1).size());
+    }
+
+    @Test
+    void updateStatus_ShouldReturnUpdatedOrder_WhenOrderIsOpen() {
+        long id = orderRepository.insert(order("Alice", NOW));
+
+        Optional<Order> updated = orderRepository.updateStatus(id, "ready", FINAL_STATUSES);
+
+        assertEquals("ready", updated.orElseThrow().status());
+        assertEquals("ready", orderRepository.findById(id).orElseThrow().status());
+    }
+
+    @Test
+    void updateStatus_ShouldCompleteOrderOnlyOnce_WhenCalledConcurrently() throws Exception {
+        long id = orderRepository.insert(order("Alice", NOW));
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<Order>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String status = i % 2 == 0 ? "completed" : "cancelled";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return orderRepository.updateStatus(id, status, FINAL_STATUSES);
+                }));
+            }
+            start.countDown();
+
+            int updated = 0;
+            for (Future<Optional<Order>> result : results) {
+                updated += result.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0;
+            }
+            assertEquals(1, updated);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ERROR CASES
+
+    @Test
+    void updateStatus_ShouldReturnEmpty_WhenOrderAlreadyHasFinalStatus() {
+        long id = orderRepository.insert(order("Alice", NOW));
+        orderRepository.updateStatus(id, "cancelled", FINAL_STATUSES);
+
+        assertTrue(orderRepository.updateStatus(id, "ready", FINAL_STATUSES).isEmpty());
+        assertEquals("cancelled", orderRepository.findById(id).orElseThrow().status());
+    }
+
+    @Test
+    void updateStatus_ShouldReturnEmpty_WhenOrderDoesNotExist() {
+        assertTrue(orderRepository.updateStatus(1, "ready", FINAL_STATUSES).isEmpty());
+    }
+
+    private static Order order(String customerName, LocalDateTime orderDate) {
+        return new Order(0, "main", customerName, List.of("Latte"), 550, "pending", orderDate);
+    }
+}
@@ -0,0 +1,79 @@
+package com.coffee_management_system.main_api.repository;
+
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
+import com.coffee_management_system.main_api.service.Order;
+import com.coffee_management_system.main_api.service.OrderSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderSearchRepositoryTest extends PostgresTestSupport {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 20, 9, 0);
+
+    private OrderRepository orderRepository;
+    private OrderSearchRepository searchRepository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource());
+        truncate(jdbcTemplate, "orders");
+        orderRepository = new OrderRepository(jdbcTemplate);
+        searchRepository = new OrderSearchRepository(jdbcTemplate);
+    }
+
+    @Test
+    void search_ShouldMatchWholeTokensLikeTheIndex() {
+        Order latte = order("Zoë Smith", List.of("Oat-Milk Latté", "Croissant"), NOW.minusHours(2));
+        Order espresso = order("Bob Jones", List.of("Espresso"), NOW.minusHours(1));
+        OrderSearchIndex index = new OrderSearchIndex(new OrderSearchProperties());
+        for (Order order : List.of(latte, espresso)) {
+            index.add(order.withId(orderRepository.insert(order)));
+        }
+
+        for (String[] query : new String[][]{{"oat milk latte", null}, {"LATTE", "zoe"}, {"lat", null},
+                {null, "smith"}, {"espresso", "zoe"}}) {
+            List<Long> fromDatabase = search(query[0], query[1]).stream().map(Order::id).toList();
+            List<Long> fromIndex = index.search(query[0], query[1], null, null, 10).stream().map(Order::id).toList();
+            assertEquals(fromIndex, fromDatabase, "query " + String.join("/", String.valueOf(query[0]),
+                    String.valueOf(query[1])));
+        }
+        assertTrue(search("lat", null).isEmpty());
+        assertEquals(1, search("latte", null).size());
+    }
+
+    @Test
+    void search_ShouldReadBackItemsAndHonourDateRange() {
+        orderRepository.insert(order("Alice", List.of("Latte", "Cookie, chocolate chip"), NOW.minusDays(3)));
+        orderRepository.insert(order("Alice", List.of("Latte"), NOW.minusDays(1)));
+
+        List<Order> orders = searchRepository.search(OrderSearchIndex.tokenize("latte"), List.of(),
+                NOW.minusDays(4), NOW.minusDays(2), 10);
+
+        assertEquals(1, orders.size());
+        assertEquals(List.of("Latte", "Cookie, chocolate chip"), orders.get(0).items());
+        assertEquals(NOW.minusDays(3), orders.get(0).orderDate());
+    }
+
+    @Test
+    void findRecent_ShouldReturnNewestOrdersFirst() {
+        orderRepository.insert(order("Alice", List.of("Latte"), NOW.minusHours(3)));
+        long middle = orderRepository.insert(order("Bob", List.of("Latte"), NOW.minusHours(2)));
+        long newest = orderRepository.insert(order("Carol", List.of("Latte"), NOW.minusHours(1)));
+
+        assertEquals(List.of(newest, middle), searchRepository.findRecent(2).stream().map(Order::id).toList());
+    }
+
+    private List<Order> search(String item, String customer) {
+        return searchRepository.search(OrderSearchIndex.tokenize(item), OrderSearchIndex.tokenize(customer),
+                null, NOW, 10);
+    }
+
+    private static Order order(String customerName, List<String> items, LocalDateTime orderDate) {
+        return new Order(0, "main", customerName, items, 550, "pending", orderDate);
+    }
+}
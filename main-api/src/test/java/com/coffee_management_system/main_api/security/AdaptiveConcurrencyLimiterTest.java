@@ -0,0 +1,134 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+    private ConcurrencyLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(100);
+        properties.setSampleWindow(10);
+        properties.setSmoothing(1.0);
+    }
+
+    @Test
+    void tryAcquire_ShouldShedLowPriorityFirst_WhenNearTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.LOW));
+        }
+        assertFalse(limiter.tryAcquire(RequestPriority.LOW));
+        assertTrue(limiter.tryAcquire(RequestPriority.HIGH));
+        assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        assertEquals(7, limiter.getInFlight());
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectEveryPriority_WhenLimitAndReserveAreUsed() {
+        properties.setCriticalReserve(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        }
+        assertFalse(limiter.tryAcquire(RequestPriority.HIGH));
+        assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+
+        assertFalse(limiter.tryAcquire(RequestPriority.CRITICAL));
+        limiter.release(-1, false);
+        assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+    }
+
+    @Test
+    void release_ShouldRaiseLimit_WhenLatencyStaysStableUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        runWindow(limiter, 1);
+        runWindow(limiter, 1);
+
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void release_ShouldLowerLimit_WhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        runWindow(limiter, 1);
+        int healthyLimit = limiter.getLimit();
+
+        runWindow(limiter, 20);
+        runWindow(limiter, 20);
+
+        assertTrue(limiter.getLimit() < healthyLimit, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void release_ShouldKeepLimit_WhenThereIsNotEnoughLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 30; i++) {
+            limiter.tryAcquire(RequestPriority.NORMAL);
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void release_ShouldBackOffOncePerWindow_WhenRequestsAreDropped() {
+        properties.setInitialLimit(20);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(RequestPriority.NORMAL);
+            limiter.release(-1, true);
+        }
+        assertEquals(18, limiter.getLimit());
+
+        // A burst of drops within the next window costs a single cut, not one per drop
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire(RequestPriority.NORMAL);
+            limiter.release(-1, true);
+        }
+        assertEquals(18, limiter.getLimit());
+        limiter.tryAcquire(RequestPriority.NORMAL);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        assertEquals(16, limiter.getLimit());
+    }
+
+    // ERROR CASES
+
+    @Test
+    void release_ShouldNotGoBelowMinLimit_WhenDropsKeepHappening() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire(RequestPriority.CRITICAL);
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(500), true);
+        }
+
+        assertEquals(2, limiter.getLimit());
+        assertTrue(limiter.tryAcquire(RequestPriority.LOW));
+    }
+
+    private static void runWindow(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+        }
+    }
+}
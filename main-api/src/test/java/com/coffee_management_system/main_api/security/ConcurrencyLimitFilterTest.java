@@ -0,0 +1,153 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.ConcurrencyLimitProperties;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+    private ConcurrencyLimitProperties properties;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(4);
+        properties.setMinLimit(1);
+        properties.setSampleWindow(5);
+        limiter = new AdaptiveConcurrencyLimiter(properties);
+        filter = new ConcurrencyLimitFilter(limiter, 2);
+    }
+
+    @Test
+    void classify_ShouldPrioritiseHealthAndWritesOverBulkReads() {
+        assertEquals(RequestPriority.CRITICAL, ConcurrencyLimitFilter.classify(request("GET", "/actuator/health/readiness")));
+        assertEquals(RequestPriority.HIGH, ConcurrencyLimitFilter.classify(request("POST", "/api/auth/login")));
+        assertEquals(RequestPriority.HIGH, ConcurrencyLimitFilter.classify(request("POST", "/api/orders")));
+        assertEquals(RequestPriority.HIGH, ConcurrencyLimitFilter.classify(request("PATCH", "/api/orders/7/status")));
+        assertEquals(RequestPriority.LOW, ConcurrencyLimitFilter.classify(request("GET", "/api/orders")));
+        assertEquals(RequestPriority.LOW, ConcurrencyLimitFilter.classify(request("GET", "/api/orders/search")));
+        assertEquals(RequestPriority.LOW, ConcurrencyLimitFilter.classify(request("GET", "/api/orders/export")));
+        assertEquals(RequestPriority.NORMAL, ConcurrencyLimitFilter.classify(request("GET", "/api/orders/7")));
+        assertEquals(RequestPriority.NORMAL, ConcurrencyLimitFilter.classify(request("GET", "/api/menu")));
+    }
+
+    @Test
+    void doFilter_ShouldBypassLimiter_ForOrderBoardStream() throws Exception {
+        fillTo(4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/orders/stream"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldReleaseSlot_WhenRequestCompletes() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/menu"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldReleaseSlot_WhenRequestGoesAsync() throws Exception {
+        MockHttpServletRequest request = request("GET", "/api/orders/export");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertTrue(request.isAsyncStarted());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldAdmitHealthChecks_WhenLimitIsReached() throws Exception {
+        fillTo(4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/actuator/health/liveness"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldKeepLimit_WhenRequestsFailWithClientErrors() {
+        for (int i = 0; i < 50; i++) {
+            assertThrows(IllegalArgumentException.class, () -> filter.doFilter(request("POST", "/api/auth/login"),
+                    new MockHttpServletResponse(), (req, res) -> {
+                        throw new IllegalArgumentException("Username or password must not be empty");
+                    }));
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldLowerLimit_WhenDownstreamTimesOut() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ServletException.class, () -> filter.doFilter(request("GET", "/api/loyalty/points"),
+                    new MockHttpServletResponse(), (req, res) -> {
+                        throw new ServletException(new QueryTimeoutException("statement timeout"));
+                    }));
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void isOverload_ShouldOnlyAcceptOverloadSignals() {
+        assertTrue(ConcurrencyLimitFilter.isOverload(503, null));
+        assertTrue(ConcurrencyLimitFilter.isOverload(504, null));
+        assertTrue(ConcurrencyLimitFilter.isOverload(200, new CannotGetJdbcConnectionException("pool exhausted",
+                new SQLTransientConnectionException("Connection is not available, request timed out"))));
+        assertFalse(ConcurrencyLimitFilter.isOverload(500, new IllegalStateException("bug")));
+        assertFalse(ConcurrencyLimitFilter.isOverload(400, null));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void doFilter_ShouldShedWith503AndRetryAfter_WhenLimitIsReached() throws Exception {
+        fillTo(4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/orders"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"message\""));
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    private void fillTo(int inFlight) {
+        for (int i = 0; i < inFlight; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        }
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,115 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+    private ApplicationEventPublisher eventPublisher;
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRevocation().setExpectedRevocations(1000);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        revocationService = new TokenRevocationService(jwtProperties, eventPublisher);
+    }
+
+    @Test
+    void revoke_ShouldMarkTokenRevokedAndAnnounceIt() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        revocationService.revoke("token-1", expiresAt);
+
+        assertTrue(revocationService.isRevoked("token-1"));
+        assertFalse(revocationService.isRevoked("token-2"));
+        verify(eventPublisher).publishEvent(new TokenRevokedEvent("token-1", expiresAt));
+    }
+
+    @Test
+    void apply_ShouldNotAnnounce_WhenRevocationComesFromAnotherNode() {
+        assertTrue(revocationService.apply("token-1", System.currentTimeMillis() + 60000));
+        assertFalse(revocationService.apply("token-1", System.currentTimeMillis() + 60000));
+
+        assertTrue(revocationService.isRevoked("token-1"));
+        verify(eventPublisher, never()).publishEvent(any(TokenRevokedEvent.class));
+    }
+
+    @Test
+    void isRevoked_ShouldHaveNoFalseNegatives_ForManyTokens() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+        for (int i = 0; i < 5000; i++) {
+            revocationService.apply("revoked-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(revocationService.isRevoked("revoked-" + i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertFalse(revocationService.isRevoked("valid-" + i));
+        }
+    }
+
+    @Test
+    void revoke_ShouldSucceedOnlyOnce_WhenCalledConcurrentlyForSameToken() throws Exception {
+        long expiresAt = System.currentTimeMillis() + 60000;
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return revocationService.revoke("token-1", expiresAt);
+                }));
+            }
+            start.countDown();
+
+            int revoked = 0;
+            for (Future<Boolean> result : results) {
+                revoked += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, revoked);
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(eventPublisher, times(1)).publishEvent(any(TokenRevokedEvent.class));
+    }
+
+    @Test
+    void purgeExpired_ShouldDropExpiredEntriesAndKeepLiveOnes() throws InterruptedException {
+        revocationService.apply("short-lived", System.currentTimeMillis() + 20);
+        revocationService.apply("long-lived", System.currentTimeMillis() + 60000);
+        Thread.sleep(50);
+
+        revocationService.purgeExpired();
+
+        assertEquals(1, revocationService.size());
+        assertFalse(revocationService.isRevoked("short-lived"));
+        assertTrue(revocationService.isRevoked("long-lived"));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void apply_ShouldIgnoreToken_WhenAlreadyExpired() {
+        assertFalse(revocationService.apply("expired", System.currentTimeMillis() - 1));
+        assertFalse(revocationService.isRevoked("expired"));
+        assertFalse(revocationService.isRevoked(null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.coffee_management_system.main_api.security;
+
+import com.coffee_management_system.main_api.config.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationSyncTest {
+    private TokenRevocationService revocationService;
+    private RabbitTemplate rabbitTemplate;
+    private MessageListenerContainer snapshotListener;
+    private TokenRevocationSync sync;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRevocation().setExpectedRevocations(1000);
+        revocationService = new TokenRevocationService(jwtProperties, mock(ApplicationEventPublisher.class));
+        rabbitTemplate = mock(RabbitTemplate.class);
+        snapshotListener = mock(MessageListenerContainer.class);
+        RabbitListenerEndpointRegistry registry = mock(RabbitListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(any())).thenReturn(snapshotListener);
+        sync = new TokenRevocationSync(jwtProperties, revocationService, rabbitTemplate, registry);
+    }
+
+    @Test
+    void onSnapshotRequest_ShouldReplyWithOneBatchedMessage_ToRequesterQueue() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+        for (int i = 0; i < 100; i++) {
+            revocationService.apply("token-" + i, expiresAt);
+        }
+
+        sync.onSnapshotRequest(request("other-node-queue"));
+
+        ArgumentCaptor<Object> body = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, times(1)).convertAndSend(eq(""), eq("other-node-queue"), body.capture());
+        String snapshot = (String) body.getValue();
+        assertTrue(snapshot.startsWith("B\n"));
+        assertEquals(101, snapshot.split("\n").length);
+        assertTrue(snapshot.contains(expiresAt + ":token-42\n"));
+    }
+
+    @Test
+    void onMessage_ShouldApplySnapshotAndStartServingRequests() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        sync.onMessage("B\n" + expiresAt + ":token-1\n" + expiresAt + ":token-2\n");
+
+        assertTrue(revocationService.isRevoked("token-1"));
+        assertTrue(revocationService.isRevoked("token-2"));
+        verify(snapshotListener).start();
+    }
+
+    @Test
+    void onMessage_ShouldApplyBroadcastRevocation() {
+        sync.onMessage("R:" + (System.currentTimeMillis() + 60000) + ":token-1");
+
+        assertTrue(revocationService.isRevoked("token-1"));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void onSnapshotRequest_ShouldIgnoreOwnRequest() {
+        sync.onSnapshotRequest(request(sync.tokenRevocationQueue().getName()));
+
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    void onMessage_ShouldSkipMalformedSnapshotLines() {
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        sync.onMessage("B\nnot-a-number:token-1\n" + expiresAt + ":token-2\ngarbage\n");
+
+        assertFalse(revocationService.isRevoked("token-1"));
+        assertTrue(revocationService.isRevoked("token-2"));
+    }
+
+    private static Message request(String replyTo) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReplyTo(replyTo);
+        return new Message("S".getBytes(), properties);
+    }
+}
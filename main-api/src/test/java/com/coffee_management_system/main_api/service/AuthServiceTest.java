@@ -1,15 +1,29 @@
 package com.coffee_management_system.main_api.service;
 
+import com.coffee_management_system.main_api.config.JwtProperties;
 import com.coffee_management_system.main_api.security.JwtUtil;
+import com.coffee_management_system.main_api.security.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -20,6 +34,10 @@ class AuthServiceTest {
     private JwtUtil jwtUtil;
     @Mock
     private Authentication authentication;
+    @Mock
+    private TokenRevocationService revocationService;
+    @Mock
+    private Claims claims;
 
     @InjectMocks
     private AuthService authService;
@@ -228,4 +246,128 @@ class AuthServiceTest {
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtUtil).generateToken(username);
     }
+
+    // REFRESH TOKENS
+
+    @Test
+    void issueTokens_ShouldReturnAccessAndRefreshTokens_WhenCredentialsAreValid() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        when(authentication.getName()).thenReturn("testuser");
+        when(jwtUtil.generateToken("testuser")).thenReturn("access-token");
+        when(jwtUtil.generateRefreshToken("testuser")).thenReturn("refresh-token");
+        when(jwtUtil.getAccessTokenValidity()).thenReturn(900000L);
+
+        AuthService.TokenPair tokens = authService.issueTokens("testuser", "testpass");
+
+        assertEquals("access-token", tokens.accessToken());
+        assertEquals("refresh-token", tokens.refreshToken());
+        assertEquals("Bearer", tokens.tokenType());
+        assertEquals(900, tokens.expiresIn());
+    }
+
+    @Test
+    void refresh_ShouldRotateRefreshToken_WhenTokenIsValid() {
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        when(jwtUtil.parseClaims("refresh-token")).thenReturn(claims);
+        when(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)).thenReturn(JwtUtil.REFRESH_TOKEN);
+        when(claims.getId()).thenReturn("refresh-id");
+        when(claims.getSubject()).thenReturn("testuser");
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(revocationService.isRevoked("refresh-id")).thenReturn(false);
+        when(revocationService.revoke("refresh-id", expiration.getTime())).thenReturn(true);
+        when(jwtUtil.generateToken("testuser")).thenReturn("new-access-token");
+        when(jwtUtil.generateRefreshToken("testuser")).thenReturn("new-refresh-token");
+
+        AuthService.TokenPair tokens = authService.refresh("refresh-token");
+
+        assertEquals("new-access-token", tokens.accessToken());
+        assertEquals("new-refresh-token", tokens.refreshToken());
+        verify(revocationService).revoke("refresh-id", expiration.getTime());
+    }
+
+    @Test
+    void refresh_ShouldThrowBadCredentialsException_WhenTokenIsAnAccessToken() {
+        when(jwtUtil.parseClaims("access-token")).thenReturn(claims);
+        when(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)).thenReturn(JwtUtil.ACCESS_TOKEN);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("access-token"));
+        verify(jwtUtil, never()).generateToken(anyString());
+    }
+
+    @Test
+    void refresh_ShouldThrowBadCredentialsException_WhenTokenIsRevoked() {
+        when(jwtUtil.parseClaims("refresh-token")).thenReturn(claims);
+        when(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)).thenReturn(JwtUtil.REFRESH_TOKEN);
+        when(claims.getId()).thenReturn("refresh-id");
+        when(revocationService.isRevoked("refresh-id")).thenReturn(true);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("refresh-token"));
+        verify(revocationService, never()).revoke(anyString(), anyLong());
+        verify(jwtUtil, never()).generateToken(anyString());
+    }
+
+    @Test
+    void refresh_ShouldThrowBadCredentialsException_WhenConcurrentRefreshRevokedTokenFirst() {
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        when(jwtUtil.parseClaims("refresh-token")).thenReturn(claims);
+        when(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)).thenReturn(JwtUtil.REFRESH_TOKEN);
+        when(claims.getId()).thenReturn("refresh-id");
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(revocationService.isRevoked("refresh-id")).thenReturn(false);
+        when(revocationService.revoke("refresh-id", expiration.getTime())).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("refresh-token"));
+        verify(jwtUtil, never()).generateToken(anyString());
+    }
+
+    @Test
+    void refresh_ShouldIssueTokensOnlyOnce_WhenSameTokenIsRefreshedConcurrently() throws Exception {
+        TokenRevocationService realRevocationService =
+                new TokenRevocationService(new JwtProperties(), mock(ApplicationEventPublisher.class));
+        AuthService service = new AuthService(authenticationManager, jwtUtil, realRevocationService);
+        when(jwtUtil.parseClaims("refresh-token")).thenReturn(claims);
+        when(claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class)).thenReturn(JwtUtil.REFRESH_TOKEN);
+        when(claims.getId()).thenReturn("refresh-id");
+        when(claims.getSubject()).thenReturn("testuser");
+        when(claims.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60000));
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.refresh("refresh-token");
+                        issued.incrementAndGet();
+                    } catch (BadCredentialsException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, issued.get());
+        assertEquals(threads - 1, rejected.get());
+    }
+
+    @Test
+    void refresh_ShouldThrowBadCredentialsException_WhenTokenIsInvalid() {
+        when(jwtUtil.parseClaims("garbage")).thenReturn(null);
+
+        assertThrows(BadCredentialsException.class, () -> authService.refresh("garbage"));
+        assertThrows(BadCredentialsException.class, () -> authService.refresh(null));
+    }
 }
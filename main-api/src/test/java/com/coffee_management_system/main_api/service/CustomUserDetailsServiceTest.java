@@ -0,0 +1,49 @@
+package com.coffee_management_system.main_api.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomUserDetailsServiceTest {
+    private final CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+
+    @Test
+    void loadUserByUsername_ShouldGrantStaffRole_WhenUserIsStaff() {
+        UserDetails user = userDetailsService.loadUserByUsername("staffuser");
+
+        assertEquals(Set.of("ROLE_USER", "ROLE_STAFF"), user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+        assertTrue(new BCryptPasswordEncoder().matches("staffpassword", user.getPassword()));
+    }
+
+    @Test
+    void loadUserByUsername_ShouldGrantAdminRole_WhenUserIsAdmin() {
+        UserDetails user = userDetailsService.loadUserByUsername("adminuser");
+
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+        assertTrue(new BCryptPasswordEncoder().matches("adminpassword", user.getPassword()));
+    }
+
+    @Test
+    void loadUserByUsername_ShouldGrantOnlyUserRole_WhenUserIsCustomer() {
+        UserDetails user = userDetailsService.loadUserByUsername("testuser");
+
+        assertEquals(Set.of("ROLE_USER"), user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void loadUserByUsername_ShouldThrowUsernameNotFoundException_WhenUserIsUnknown() {
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nobody"));
+    }
+}
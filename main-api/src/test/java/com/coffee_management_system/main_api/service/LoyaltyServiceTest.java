@@ -0,0 +1,137 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.LoyaltyProperties;
+import com.coffee_management_system.main_api.repository.LoyaltyPointsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class LoyaltyServiceTest {
+    private LoyaltyPointsRepository repository;
+    private LoyaltyService loyaltyService;
+    private Map<String, Long> persisted;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(LoyaltyPointsRepository.class);
+        persisted = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<String, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((customer, points) -> persisted.merge(customer, points, Long::sum));
+            return null;
+        }).when(repository).addPoints(anyMap());
+        when(repository.findPoints(anyString())).thenAnswer(invocation ->
+                persisted.getOrDefault(invocation.<String>getArgument(0), 0L));
+        loyaltyService = new LoyaltyService(repository, new LoyaltyProperties());
+    }
+
+    @Test
+    void onOrderEvent_ShouldAccruePoints_WhenOrderIsCompleted() {
+        loyaltyService.onOrderEvent(event(OrderEvent.Type.STATUS_CHANGED, "completed", 1275));
+
+        assertEquals(12, loyaltyService.getBalance("alice"));
+    }
+
+    @Test
+    void onOrderEvent_ShouldIgnoreOrder_WhenOrderIsNotCompleted() {
+        loyaltyService.onOrderEvent(event(OrderEvent.Type.CREATED, "pending", 1275));
+        loyaltyService.onOrderEvent(event(OrderEvent.Type.STATUS_CHANGED, "ready", 1275));
+
+        assertEquals(0, loyaltyService.getBalance("alice"));
+    }
+
+    @Test
+    void getBalance_ShouldMergePersistedAndPendingPoints() {
+        loyaltyService.accrue("alice", 10);
+        loyaltyService.flush();
+        loyaltyService.accrue("alice", 5);
+
+        assertEquals(10, persisted.get("alice"));
+        assertEquals(15, loyaltyService.getBalance("alice"));
+    }
+
+    @Test
+    void flush_ShouldBatchAllCustomersInOneWrite() {
+        loyaltyService.accrue("alice", 3);
+        loyaltyService.accrue("bob", 4);
+        loyaltyService.accrue("alice", 2);
+
+        assertEquals(2, loyaltyService.flush());
+        assertEquals(0, loyaltyService.flush());
+
+        verify(repository, times(1)).addPoints(Map.of("alice", 5L, "bob", 4L));
+    }
+
+    @Test
+    void flush_ShouldNotLoseIncrements_WhenAccruingConcurrently() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        List<String> customers = List.of("corporate-account", "regular-1", "regular-2");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean accruing = new AtomicBoolean(true);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    loyaltyService.accrue(customers.get((thread + i) % customers.size()), 1);
+                }
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (accruing.get()) {
+                loyaltyService.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        accruing.set(false);
+        flusher.join();
+        loyaltyService.flush();
+
+        long total = persisted.values().stream().mapToLong(Long::longValue).sum();
+        assertEquals((long) threads * incrementsPerThread, total);
+        assertEquals(0, loyaltyService.getPendingPoints());
+    }
+
+    // ERROR CASES
+
+    @Test
+    void flush_ShouldKeepPointsPending_WhenWriteFails() {
+        loyaltyService.accrue("alice", 7);
+        doThrow(new RuntimeException("Database unavailable")).when(repository).addPoints(anyMap());
+
+        assertEquals(0, loyaltyService.flush());
+
+        assertEquals(7, loyaltyService.getPendingPoints());
+        assertEquals(7, loyaltyService.getBalance("alice"));
+    }
+
+    private static OrderEvent event(OrderEvent.Type type, String status, long totalCents) {
+        Order order = new Order(1, "main", "alice", List.of("Latte"), totalCents, status, LocalDateTime.now());
+        return new OrderEvent(type, order);
+    }
+}
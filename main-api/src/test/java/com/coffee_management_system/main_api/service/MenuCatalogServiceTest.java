@@ -0,0 +1,165 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.MenuProperties;
+import com.coffee_management_system.main_api.repository.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MenuCatalogServiceTest {
+    private MenuRepository menuRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private MenuCatalogService menuCatalogService;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = mock(MenuRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        AtomicLong versions = new AtomicLong();
+        when(menuRepository.insert(any())).thenAnswer(invocation -> versions.incrementAndGet());
+        menuCatalogService = new MenuCatalogService(new MenuProperties(), menuRepository, eventPublisher);
+        menuCatalogService.replace(List.of(
+                new MenuCatalog.MenuItem(1, "Espresso", 400),
+                new MenuCatalog.MenuItem(5, "Croissant", 450),
+                new MenuCatalog.MenuItem(3, "Latte", 550)));
+    }
+
+    @Test
+    void priceOrder_ShouldComputeTotalFromCatalog_WhenItemsAreNames() {
+        MenuCatalog.PricedOrder order = menuCatalogService.priceOrder(List.of("Espresso", "croissant"));
+
+        assertEquals(850, order.totalCents());
+        assertEquals(2, order.lines().size());
+        assertEquals("Croissant", order.lines().get(1).name());
+    }
+
+    @Test
+    void priceOrder_ShouldApplyQuantities_WhenItemsAreObjects() {
+        MenuCatalog.PricedOrder order = menuCatalogService.priceOrder(List.of(
+                Map.of("id", 3, "quantity", 2),
+                Map.of("name", "Espresso")));
+
+        assertEquals(1500, order.totalCents());
+        assertEquals(1100, order.lines().get(0).lineTotalCents());
+    }
+
+    @Test
+    void priceOrder_ShouldUseNewPrices_AfterCatalogIsReplaced() {
+        long before = menuCatalogService.current().version();
+        MenuCatalog previous = menuCatalogService.current();
+
+        menuCatalogService.replace(List.of(new MenuCatalog.MenuItem(1, "Espresso", 425)));
+
+        assertEquals(before + 1, menuCatalogService.current().version());
+        assertEquals(425, menuCatalogService.priceOrder(List.of("Espresso")).totalCents());
+        // Snapshots already handed out are unaffected by the swap
+        assertEquals(3, previous.size());
+        assertEquals(400, previous.priceCentsAt(previous.indexOfId(1)));
+    }
+
+    @Test
+    void replace_ShouldStoreMenuAndPublishItsVersion() {
+        MenuCatalog catalog = menuCatalogService.replace(List.of(new MenuCatalog.MenuItem(1, "Espresso", 425)));
+
+        verify(menuRepository).insert(List.of(new MenuCatalog.MenuItem(1, "Espresso", 425)));
+        verify(eventPublisher).publishEvent(new MenuChangedEvent(catalog.version()));
+    }
+
+    @Test
+    void reload_ShouldSwitchToStoredMenu_OnlyWhenItIsNewer() {
+        long current = menuCatalogService.current().version();
+        when(menuRepository.findLatest()).thenReturn(Optional.of(
+                MenuCatalog.of(current + 5, List.of(new MenuCatalog.MenuItem(1, "Espresso", 450)))));
+
+        menuCatalogService.reload();
+
+        assertEquals(current + 5, menuCatalogService.current().version());
+        assertEquals(450, menuCatalogService.priceOrder(List.of("Espresso")).totalCents());
+
+        when(menuRepository.findLatest()).thenReturn(Optional.of(
+                MenuCatalog.of(current, List.of(new MenuCatalog.MenuItem(1, "Espresso", 100)))));
+        menuCatalogService.reload();
+
+        assertEquals(450, menuCatalogService.priceOrder(List.of("Espresso")).totalCents());
+    }
+
+    @Test
+    void loadPersisted_ShouldKeepConfiguredMenu_WhenDatabaseIsUnavailable() {
+        MenuProperties properties = new MenuProperties();
+        MenuProperties.Item latte = new MenuProperties.Item();
+        latte.setId(3);
+        latte.setName("Latte");
+        latte.setPriceCents(550);
+        properties.setItems(List.of(latte));
+        MenuCatalogService service = new MenuCatalogService(properties, menuRepository, eventPublisher);
+        service.loadFromProperties();
+        when(menuRepository.findLatest()).thenThrow(new CannotGetJdbcConnectionException("down"));
+
+        service.loadPersisted();
+
+        assertEquals(0, service.current().version());
+        assertEquals(550, service.priceOrder(List.of("Latte")).totalCents());
+    }
+
+    // ERROR CASES
+
+    @Test
+    void priceOrder_ShouldThrowIllegalArgumentException_WhenItemIsUnknown() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of("Unicorn Frappe")));
+
+        assertEquals("Unknown menu item: Unicorn Frappe", exception.getMessage());
+    }
+
+    @Test
+    void priceOrder_ShouldThrowIllegalArgumentException_WhenQuantityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of(Map.of("id", 1, "quantity", 0))));
+    }
+
+    @Test
+    void priceOrder_ShouldThrowIllegalArgumentException_WhenQuantityIsNotAWholeNumber() {
+        assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of(Map.of("id", 1, "quantity", 1.9))));
+        assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of(Map.of("id", 1, "quantity", "2"))));
+    }
+
+    @Test
+    void priceOrder_ShouldThrowIllegalArgumentException_WhenIdIsOutOfIntRange() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of(Map.of("id", 4294967297L))));
+
+        assertEquals("Item id must be a whole number within range: 4294967297", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () ->
+                menuCatalogService.priceOrder(List.of(Map.of("id", 1, "quantity", 4294967297L))));
+    }
+
+    @Test
+    void priceOrder_ShouldThrowIllegalArgumentException_WhenItemsIsMissing() {
+        assertThrows(IllegalArgumentException.class, () -> menuCatalogService.priceOrder(null));
+        assertThrows(IllegalArgumentException.class, () -> menuCatalogService.priceOrder(List.of()));
+    }
+
+    @Test
+    void replace_ShouldKeepCurrentCatalog_WhenItemIdsAreDuplicated() {
+        MenuCatalog current = menuCatalogService.current();
+
+        assertThrows(IllegalArgumentException.class, () -> menuCatalogService.replace(List.of(
+                new MenuCatalog.MenuItem(1, "Espresso", 400),
+                new MenuCatalog.MenuItem(1, "Doppio", 500))));
+
+        assertSame(current, menuCatalogService.current());
+        verify(menuRepository, times(1)).insert(any()); // only the menu from setUp
+    }
+}
@@ -0,0 +1,48 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.MenuProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class MenuSyncTest {
+    private MenuCatalogService menuCatalogService;
+    private RabbitTemplate rabbitTemplate;
+    private MenuSync sync;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalogService = mock(MenuCatalogService.class);
+        when(menuCatalogService.current()).thenReturn(MenuCatalog.of(3, List.of(new MenuCatalog.MenuItem(1, "Espresso", 400))));
+        rabbitTemplate = mock(RabbitTemplate.class);
+        sync = new MenuSync(new MenuProperties(), menuCatalogService, rabbitTemplate);
+    }
+
+    @Test
+    void onMenuChanged_ShouldBroadcastVersion() {
+        sync.onMenuChanged(new MenuChangedEvent(4));
+
+        verify(rabbitTemplate).convertAndSend("menu.exchange", "", "4");
+    }
+
+    @Test
+    void onMessage_ShouldReloadMenu_WhenVersionIsNewer() {
+        sync.onMessage("4");
+
+        verify(menuCatalogService).reload();
+    }
+
+    // ERROR CASES
+
+    @Test
+    void onMessage_ShouldNotReload_WhenVersionIsAlreadyServed() {
+        sync.onMessage("3");
+        sync.onMessage("not a version");
+
+        verify(menuCatalogService, never()).reload();
+    }
+}
@@ -0,0 +1,177 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderBoardProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBoardServiceTest {
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+    private static final Pattern NAME = Pattern.compile("event:(\\S+)");
+
+    private OrderBoardProperties properties;
+    private OrderBoardService orderBoardService;
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch sendGate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderBoardProperties();
+        properties.setSubscriberBufferSize(4);
+        properties.setHistorySize(8);
+        orderBoardService = new OrderBoardService(properties) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter(sendGate);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderBoardService.shutdown();
+    }
+
+    @Test
+    void subscribe_ShouldReplayMissedEvents_WhenLastEventIdIsInHistory() throws InterruptedException {
+        RecordingEmitter live = subscribe(null);
+        List<Sent> seen = publishAndAwait(live, 4);
+
+        RecordingEmitter resumed = subscribe(seen.get(1).id());
+
+        List<Sent> replayed = resumed.await(2);
+        assertEquals(List.of(seen.get(2), seen.get(3)), replayed);
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenMissedEventsWereEvictedFromHistory() throws InterruptedException {
+        RecordingEmitter live = subscribe(null);
+        orderBoardService.publish("main", "order-created", Map.of());
+        long firstId = live.await(1).get(0).id();
+        for (int i = 0; i < properties.getHistorySize(); i++) {
+            orderBoardService.publish("main", "order-created", Map.of());
+        }
+
+        List<Sent> received = subscribe(firstId - 1).await(1);
+
+        assertEquals(OrderBoardService.RESET_EVENT, received.get(0).name());
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenLastEventIdComesFromAnotherProcess() throws InterruptedException {
+        orderBoardService.publish("main", "order-created", Map.of());
+
+        // Ids from before a restart are lower than anything this process hands out, ids from a
+        // newer process are higher than anything it has handed out yet
+        assertEquals(OrderBoardService.RESET_EVENT, subscribe(5L).await(1).get(0).name());
+        assertEquals(OrderBoardService.RESET_EVENT, subscribe(Long.MAX_VALUE).await(1).get(0).name());
+    }
+
+    @Test
+    void subscribe_ShouldSendReset_WhenReplayDoesNotFitSubscriberBuffer() throws InterruptedException {
+        RecordingEmitter live = subscribe(null);
+        List<Sent> seen = publishAndAwait(live, 7);
+
+        // Six events to replay into a buffer of four: the fifth overflows and becomes a reset
+        List<Sent> received = subscribe(seen.get(0).id()).await(2);
+
+        assertEquals(List.of(new Sent(seen.get(5).id(), OrderBoardService.RESET_EVENT), seen.get(6)), received);
+    }
+
+    @Test
+    void publish_ShouldResetSlowSubscriber_InsteadOfDroppingEventsSilently() throws InterruptedException {
+        sendGate = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(null);
+        sendGate = null;
+        RecordingEmitter fast = subscribe(null);
+
+        List<Sent> fastEvents = publishAndAwait(fast, 20);
+        slow.gate.countDown();
+
+        List<Sent> slowEvents = slow.awaitLast(fastEvents.get(19).id());
+        assertTrue(slowEvents.stream().anyMatch(event -> event.name().equals(OrderBoardService.RESET_EVENT)),
+                "slow subscriber received " + slowEvents);
+        assertTrue(slowEvents.size() < 20);
+    }
+
+    /**
+     * Publishes one event at a time so the live subscriber never falls behind.
+     */
+    private List<Sent> publishAndAwait(RecordingEmitter live, int count) throws InterruptedException {
+        List<Sent> seen = List.of();
+        for (int i = 0; i < count; i++) {
+            orderBoardService.publish("main", "order-created", Map.of("n", i));
+            seen = live.await(seen.size() + 1);
+        }
+        return seen;
+    }
+
+    private RecordingEmitter subscribe(Long lastEventId) {
+        orderBoardService.subscribe("main", lastEventId);
+        return emitters.get(emitters.size() - 1);
+    }
+
+    record Sent(long id, String name) {
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch gate;
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            Matcher id = ID.matcher(text);
+            Matcher name = NAME.matcher(text);
+            if (!id.find() || !name.find()) {
+                return; // heartbeat
+            }
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(new Sent(Long.parseLong(id.group(1)), name.group(1)));
+        }
+
+        List<Sent> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(sent.size() >= count, "expected " + count + " events, got " + sent);
+            return List.copyOf(sent);
+        }
+
+        List<Sent> awaitLast(long id) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((sent.isEmpty() || sent.get(sent.size() - 1).id() != id) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertFalse(sent.isEmpty());
+            assertEquals(id, sent.get(sent.size() - 1).id());
+            return List.copyOf(sent);
+        }
+    }
+}
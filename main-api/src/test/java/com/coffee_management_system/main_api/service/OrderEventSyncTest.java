@@ -0,0 +1,83 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderBoardProperties;
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderEventSyncTest {
+    private static final Order ORDER = new Order(42, "main", "Alice", List.of("Latte"), 550, "ready",
+            LocalDateTime.of(2025, 7, 20, 9, 0));
+
+    private OrderBoardService boardService;
+    private OrderSearchIndex searchIndex;
+    private RabbitTemplate rabbitTemplate;
+    private OrderEventSync sync;
+
+    @BeforeEach
+    void setUp() {
+        boardService = mock(OrderBoardService.class);
+        searchIndex = new OrderSearchIndex(new OrderSearchProperties());
+        rabbitTemplate = mock(RabbitTemplate.class);
+        sync = new OrderEventSync(new OrderBoardProperties(), boardService, searchIndex, rabbitTemplate,
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void onOrderEvent_ShouldBroadcastEventThatOtherNodesApply() {
+        OrderEvent event = new OrderEvent(OrderEvent.Type.CREATED, ORDER);
+
+        sync.onOrderEvent(event);
+
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq("order.board.exchange"), eq(""), message.capture());
+        OrderEventSync otherNode = new OrderEventSync(new OrderBoardProperties(), boardService, searchIndex,
+                rabbitTemplate, new ObjectMapper().findAndRegisterModules());
+        otherNode.onMessage((String) message.getValue());
+
+        verify(boardService).onOrderEvent(event);
+        assertEquals(List.of(ORDER), searchIndex.search("latte", null, null, null, 10));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void onMessage_ShouldIgnoreOwnBroadcast() {
+        sync.onOrderEvent(new OrderEvent(OrderEvent.Type.STATUS_CHANGED, ORDER));
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(any(String.class), any(String.class), message.capture());
+
+        sync.onMessage((String) message.getValue());
+
+        verifyNoInteractions(boardService);
+    }
+
+    @Test
+    void onMessage_ShouldIgnoreMalformedMessage() {
+        sync.onMessage("not json");
+        sync.onMessage("{\"origin\":\"other\"}");
+
+        verifyNoInteractions(boardService);
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void onOrderEvent_ShouldNotThrow_WhenBrokerIsUnavailable() {
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+                .when(rabbitTemplate).convertAndSend(any(String.class), any(String.class), any(Object.class));
+
+        assertDoesNotThrow(() -> sync.onOrderEvent(new OrderEvent(OrderEvent.Type.CREATED, ORDER)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.repository.OrderRepository;
+import com.coffee_management_system.main_api.repository.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportIntegrationTest extends PostgresTestSupport {
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 20);
+
+    private OrderRepository orderRepository;
+    private OrderExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = dataSource();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        truncate(jdbcTemplate, "orders");
+        orderRepository = new OrderRepository(jdbcTemplate);
+        exportService = new OrderExportService(dataSource);
+    }
+
+    @Test
+    void exportCsv_ShouldCopyOrdersInRangeIncludingTheLastDay() throws Exception {
+        long first = orderRepository.insert(order("main", List.of("Latte", "Cookie, chocolate chip"),
+                DAY.atTime(0, 0)));
+        long last = orderRepository.insert(order("downtown", List.of("Espresso"), DAY.plusDays(1).atTime(23, 59)));
+        orderRepository.insert(order("main", List.of("Espresso"), DAY.plusDays(2).atStartOfDay()));
+        orderRepository.insert(order("main", List.of("Espresso"), DAY.minusDays(1).atTime(23, 59)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportCsv(DAY, DAY.plusDays(1), null, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, rows);
+        assertEquals("id,store_id,customer_name,items,total,status,created_at", lines.get(0));
+        assertEquals(first + ",main,Alice,\"[\"\"Latte\"\",\"\"Cookie, chocolate chip\"\"]\",5.50,pending,"
+                + "2025-07-20 00:00:00", lines.get(1));
+        assertTrue(lines.get(2).startsWith(last + ",downtown,"));
+        assertEquals(3, lines.size());
+    }
+
+    @Test
+    void exportCsv_ShouldOnlyCopyTheGivenStore() throws Exception {
+        orderRepository.insert(order("main", List.of("Latte"), DAY.atTime(9, 0)));
+        long downtown = orderRepository.insert(order("downtown", List.of("Latte"), DAY.atTime(10, 0)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportCsv(DAY, DAY, "downtown", out);
+
+        assertEquals(1, rows);
+        assertTrue(out.toString(StandardCharsets.UTF_8).lines().skip(1).findFirst().orElseThrow()
+                .startsWith(downtown + ",downtown,"));
+        assertEquals(List.of("downtown", "main"), exportService.findStoreIds(DAY, DAY));
+    }
+
+    private static Order order(String storeId, List<String> items, LocalDateTime orderDate) {
+        return new Order(0, storeId, "Alice", items, 550, "pending", orderDate);
+    }
+}
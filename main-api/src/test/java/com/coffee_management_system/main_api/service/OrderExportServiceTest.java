@@ -0,0 +1,49 @@
+package com.coffee_management_system.main_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportServiceTest {
+
+    @Test
+    void buildCopySql_ShouldUseHalfOpenDateRange_WhenExportingAllStores() {
+        String sql = OrderExportService.buildCopySql(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31), null);
+
+        assertTrue(sql.startsWith("COPY (SELECT "));
+        assertTrue(sql.contains("created_at >= DATE '2025-07-01' AND created_at < DATE '2025-08-01'"));
+        assertFalse(sql.contains("store_id ="));
+        assertTrue(sql.endsWith("TO STDOUT WITH (FORMAT csv, HEADER)"));
+    }
+
+    @Test
+    void buildCopySql_ShouldFilterByStore_WhenStoreIdIsGiven() {
+        String sql = OrderExportService.buildCopySql(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 1), "downtown-2");
+
+        assertTrue(sql.contains("AND store_id = 'downtown-2'"));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void buildCopySql_ShouldThrowIllegalArgumentException_WhenStoreIdCouldInjectSql() {
+        assertThrows(IllegalArgumentException.class, () -> OrderExportService.buildCopySql(
+                LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 1), "x' OR '1'='1"));
+    }
+
+    @Test
+    void buildCopySql_ShouldThrowIllegalArgumentException_WhenRangeIsReversed() {
+        assertThrows(IllegalArgumentException.class, () -> OrderExportService.buildCopySql(
+                LocalDate.of(2025, 7, 2), LocalDate.of(2025, 7, 1), null));
+    }
+
+    @Test
+    void buildCopySql_ShouldThrowIllegalArgumentException_WhenDateIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> OrderExportService.buildCopySql(
+                LocalDate.of(2025, 7, 1), LocalDate.MAX, null));
+        assertThrows(IllegalArgumentException.class, () -> OrderExportService.buildCopySql(
+                LocalDate.MIN, LocalDate.of(2025, 7, 1), null));
+    }
+}
@@ -0,0 +1,126 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.config.OrderSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderSearchIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 20, 9, 0);
+
+    private OrderSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        OrderSearchProperties properties = new OrderSearchProperties();
+        properties.setCapacity(3);
+        index = new OrderSearchIndex(properties);
+    }
+
+    @Test
+    void tokenize_ShouldNormalizeCaseAccentsAndSeparators() {
+        assertEquals(Set.of("oat", "milk", "latte"), OrderSearchIndex.tokenize("Oat-Milk  Latté"));
+        assertTrue(OrderSearchIndex.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    void search_ShouldMatchAllItemTokens_NewestFirst() {
+        index.add(order(1, "alice", "Oat Milk Latte"));
+        index.add(order(2, "bob", "Latte"));
+        index.add(order(3, "carol", "Croissant", "Oat Milk Latte"));
+
+        List<Order> results = index.search("oat-milk latte", null, null, null, 10);
+
+        assertEquals(List.of(3L, 1L), results.stream().map(Order::id).toList());
+    }
+
+    @Test
+    void search_ShouldCombineItemAndCustomer() {
+        index.add(order(1, "alice", "Latte"));
+        index.add(order(2, "bob", "Latte"));
+
+        List<Order> results = index.search("latte", "Bob", null, null, 10);
+
+        assertEquals(List.of(2L), results.stream().map(Order::id).toList());
+    }
+
+    @Test
+    void search_ShouldApplyDateRangeAndLimit() {
+        index.add(order(1, "alice", "Espresso"));
+        index.add(order(2, "alice", "Espresso"));
+        index.add(order(3, "alice", "Espresso"));
+
+        assertEquals(List.of(3L), index.search(null, "alice", null, null, 1).stream().map(Order::id).toList());
+        assertEquals(List.of(2L, 1L), index.search(null, "alice", null, NOW.plusMinutes(3), 10)
+                .stream().map(Order::id).toList());
+    }
+
+    @Test
+    void add_ShouldEvictOldestOrder_WhenCapacityIsReached() {
+        index.add(order(1, "alice", "Mocha"));
+        index.add(order(2, "bob", "Latte"));
+        index.add(order(3, "bob", "Latte"));
+        index.add(order(4, "bob", "Latte"));
+
+        assertTrue(index.search("mocha", null, null, null, 10).isEmpty());
+        assertTrue(index.search(null, "alice", null, null, 10).isEmpty());
+        assertEquals(3, index.size());
+        assertEquals(NOW.plusMinutes(2), index.coveredSince());
+    }
+
+    @Test
+    void update_ShouldReplaceStoredOrder_WhenStatusChanges() {
+        Order order = order(1, "alice", "Latte");
+        index.add(order);
+
+        index.update(order.withStatus("completed"));
+
+        assertEquals("completed", index.search("latte", null, null, null, 10).get(0).status());
+    }
+
+    @Test
+    void warm_ShouldCoverEveryDate_WhenAllOrdersAreLoaded() {
+        index.warm(List.of(order(2, "bob", "Latte"), order(1, "alice", "Latte")), true);
+
+        assertEquals(List.of(2L, 1L), index.search("latte", null, null, null, 10).stream().map(Order::id).toList());
+        assertEquals(LocalDateTime.MIN, index.coveredSince());
+    }
+
+    @Test
+    void warm_ShouldLeaveOldestLoadedDateToDatabase_WhenLoadIsPartial() {
+        index.warm(List.of(order(5, "bob", "Latte"), order(4, "bob", "Latte"), order(3, "alice", "Latte")), false);
+
+        assertEquals(List.of(5L, 4L), index.search("latte", null, null, null, 10).stream().map(Order::id).toList());
+        assertEquals(NOW.plusMinutes(4), index.coveredSince());
+    }
+
+    @Test
+    void warm_ShouldKeepOrdersIndexedMeanwhile_AndDropOldestBeyondCapacity() {
+        index.add(order(10, "carol", "Latte").withStatus("ready"));
+
+        index.warm(List.of(order(10, "carol", "Latte"), order(3, "bob", "Latte"), order(2, "bob", "Latte"),
+                order(1, "alice", "Latte")), true);
+
+        List<Order> found = index.search("latte", null, null, null, 10);
+        assertEquals(List.of(10L, 3L, 2L), found.stream().map(Order::id).toList());
+        assertEquals("ready", found.get(0).status());
+        assertEquals(NOW.plusMinutes(2), index.coveredSince());
+        assertTrue(index.search(null, "alice", null, null, 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldReturnNothing_WhenATokenIsUnknown() {
+        index.add(order(1, "alice", "Latte"));
+
+        assertTrue(index.search("pumpkin latte", null, null, null, 10).isEmpty());
+    }
+
+    private static Order order(long id, String customer, String... items) {
+        return new Order(id, "main", customer, List.of(items), 500, "pending", NOW.plusMinutes(id));
+    }
+}
@@ -0,0 +1,88 @@
+package com.coffee_management_system.main_api.service;
+
+import com.coffee_management_system.main_api.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderServiceTest {
+    private static final MenuCatalog.PricedOrder LATTE = new MenuCatalog.PricedOrder(1,
+            List.of(new MenuCatalog.PricedLine(3, "Latte", 2, 550, 1100)), 1100);
+
+    private OrderRepository orderRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(orderRepository.insert(any())).thenReturn(42L);
+        orderService = new OrderService(orderRepository, eventPublisher);
+    }
+
+    @Test
+    void createOrder_ShouldPersistOrderAndUseGeneratedId() {
+        Order order = orderService.createOrder("Alice", "downtown", LATTE);
+
+        assertEquals(42, order.id());
+        assertEquals(List.of("Latte"), order.items());
+        verify(orderRepository).insert(argThat(draft -> draft.storeId().equals("downtown")
+                && draft.totalCents() == 1100 && draft.status().equals("pending")));
+        verify(eventPublisher).publishEvent(new OrderEvent(OrderEvent.Type.CREATED, order));
+    }
+
+    @Test
+    void updateStatus_ShouldPublishStatusChange_WhenOrderIsOpen() {
+        Order ready = new Order(42, "main", "Alice", List.of("Latte"), 1100, "ready", LocalDateTime.now());
+        when(orderRepository.updateStatus(eq(42L), eq("ready"), anyCollection())).thenReturn(Optional.of(ready));
+
+        Optional<Order> updated = orderService.updateStatus(42, "ready");
+
+        assertEquals(ready, updated.orElseThrow());
+        verify(orderRepository).updateStatus(eq(42L), eq("ready"),
+                argThat(finalStatuses -> finalStatuses.containsAll(List.of("completed", "cancelled"))));
+        verify(eventPublisher).publishEvent(new OrderEvent(OrderEvent.Type.STATUS_CHANGED, ready));
+    }
+
+    @Test
+    void findOrdersByCustomer_ShouldReadOrdersFromRepository() {
+        Order order = new Order(42, "main", "Alice", List.of("Latte"), 1100, "pending", LocalDateTime.now());
+        when(orderRepository.findByCustomer(eq("Alice"), anyInt())).thenReturn(List.of(order));
+
+        assertEquals(List.of(order), orderService.findOrdersByCustomer("Alice"));
+    }
+
+    // ERROR CASES
+
+    @Test
+    void updateStatus_ShouldReturnEmpty_WhenOrderIsMissingOrAlreadyFinal() {
+        when(orderRepository.updateStatus(anyLong(), anyString(), anyCollection())).thenReturn(Optional.empty());
+
+        assertTrue(orderService.updateStatus(42, "completed").isEmpty());
+        verify(eventPublisher, never()).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    void updateStatus_ShouldNotPublishStatusChange_WhenStatusCannotBePersisted() {
+        when(orderRepository.updateStatus(anyLong(), anyString(), anyCollection()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> orderService.updateStatus(42, "completed"));
+        verify(eventPublisher, never()).publishEvent(any(OrderEvent.class));
+    }
+
+    @Test
+    void updateStatus_ShouldThrowIllegalArgumentException_WhenStatusIsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.updateStatus(1, "lost"));
+    }
+}
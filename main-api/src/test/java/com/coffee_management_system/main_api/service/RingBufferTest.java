@@ -0,0 +1,57 @@
+package com.coffee_management_system.main_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void offer_ShouldKeepInsertionOrder_WhenBufferIsNotFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+        assertNull(buffer.offer(1));
+        assertNull(buffer.offer(2));
+
+        assertEquals(List.of(1, 2), buffer.snapshot());
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void offer_ShouldDropOldest_WhenBufferIsFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        assertEquals(1, buffer.offer(4));
+        assertEquals(2, buffer.offer(5));
+
+        assertEquals(3, buffer.size());
+        assertEquals(List.of(3, 4, 5), buffer.snapshot());
+    }
+
+    @Test
+    void offer_ShouldWrapAround_AfterPolling() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.poll();
+
+        assertNull(buffer.offer(3));
+
+        assertEquals(List.of(2, 3), buffer.snapshot());
+    }
+
+    // ERROR CASES
+
+    @Test
+    void constructor_ShouldThrowIllegalArgumentException_WhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+    }
+}
@@ -0,0 +1,134 @@
+#!/usr/bin/env bash
+# Measures time-to-first-successful-request and resident memory for each service,
+# comparing the plain fat jar with the fast-startup build (AppCDS archive + Spring AOT).
+# For main-api that is the first authenticated API call (log in, then GET /api/orders), so
+# it needs PostgreSQL and RabbitMQ running (docker/docker-compose.yml). Email and SMS
+# services have no API of their own and are timed until their readiness probe answers.
+#
+# Build first:  mvn -Pfast-startup -DskipTests package
+# Usage:        scripts/startup-benchmark.sh [runs] [service...]
+#               RUNS defaults to 5, services default to all three.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${1:-5}"
+shift || true
+if (( $# > 0 )); then
+  SERVICES=("$@")
+else
+  SERVICES=(main-api email-service sms-service)
+fi
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+TIMEOUT_SECONDS="${TIMEOUT_SECONDS:-120}"
+BENCHMARK_USER="${BENCHMARK_USER:-testuser}"
+BENCHMARK_PASSWORD="${BENCHMARK_PASSWORD:-testpassword}"
+
+port_of() {
+  case "$1" in
+    main-api) echo 8080 ;;
+    email-service) echo 8081 ;;
+    sms-service) echo 8082 ;;
+    *) echo "Unknown service: $1" >&2; exit 1 ;;
+  esac
+}
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_kb() {
+  if [[ -r "/proc/$1/status" ]]; then
+    awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"
+  else
+    ps -o rss= -p "$1" | tr -d ' '
+  fi
+}
+
+# Succeeds once the service answers the request a client would make first
+probe() {
+  local service="$1" port="$2" token
+  if [[ "$service" != "main-api" ]]; then
+    curl -fs -o /dev/null "http://localhost:$port/actuator/health/readiness"
+    return
+  fi
+  token="$(curl -fs -H 'Content-Type: application/json' \
+      -d "{\"username\":\"$BENCHMARK_USER\",\"password\":\"$BENCHMARK_PASSWORD\"}" \
+      "http://localhost:$port/api/auth/login" | tr -d '\n' \
+      | sed -n 's/.*"accessToken" *: *"\([^"]*\)".*/\1/p')" || return 1
+  [[ -n "$token" ]] && curl -fs -o /dev/null -H "Authorization: Bearer $token" "http://localhost:$port/api/orders"
+}
+
+# Starts the service, waits for the first successful probe and prints "<millis> <rss-kb>"
+measure() {
+  local service="$1" mode="$2" port jar dir
+  port="$(port_of "$service")"
+  dir="$ROOT/$service/target"
+  jar="$(ls "$dir"/"$service"-*.jar | grep -v '\.original$' | head -n 1)"
+
+  local -a cmd
+  if [[ "$mode" == "fast" ]]; then
+    cmd=("$JAVA" -XX:SharedArchiveFile="$dir/fast-startup/application.jsa" -Dspring.aot.enabled=true
+         -jar "$dir/fast-startup/$(basename "$jar")")
+  else
+    cmd=("$JAVA" -jar "$jar")
+  fi
+
+  local start pid elapsed=""
+  start="$(now_ms)"
+  "${cmd[@]}" --server.port="$port" > "$dir/startup-benchmark-$mode.log" 2>&1 &
+  pid=$!
+
+  local deadline=$(( start + TIMEOUT_SECONDS * 1000 ))
+  while (( $(now_ms) < deadline )); do
+    if probe "$service" "$port"; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    if ! kill -0 "$pid" 2> /dev/null; then
+      break
+    fi
+    sleep 0.02
+  done
+
+  local rss
+  rss="$(rss_kb "$pid" || echo 0)"
+  kill "$pid" 2> /dev/null || true
+  wait "$pid" 2> /dev/null || true
+
+  if [[ -z "$elapsed" ]]; then
+    echo "$service ($mode) exited or did not answer within ${TIMEOUT_SECONDS}s, see $dir/startup-benchmark-$mode.log" >&2
+    return 1
+  fi
+  echo "$elapsed $rss"
+}
+
+status=0
+printf '%-14s %-9s %12s %12s %12s\n' service mode "median(ms)" "best(ms)" "rss(MB)"
+for service in "${SERVICES[@]}"; do
+  for mode in standard fast; do
+    if [[ "$mode" == "fast" && ! -f "$ROOT/$service/target/fast-startup/application.jsa" ]]; then
+      printf '%-14s %-9s %12s\n' "$service" "$mode" "not built (mvn -Pfast-startup -pl $service -am package)"
+      continue
+    fi
+    times=()
+    rss_total=0
+    for (( i = 0; i < RUNS; i++ )); do
+      if ! result="$(measure "$service" "$mode")"; then
+        break
+      fi
+      read -r ms rss <<< "$result"
+      times+=("$ms")
+      rss_total=$(( rss_total + rss ))
+    done
+    if (( ${#times[@]} < RUNS )); then
+      printf '%-14s %-9s %12s\n' "$service" "$mode" "failed"
+      status=1
+      continue
+    fi
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    median="${sorted[$(( RUNS / 2 ))]}"
+    printf '%-14s %-9s %12s %12s %12s\n' "$service" "$mode" "$median" "${sorted[0]}" \
+      "$(( rss_total / RUNS / 1024 ))"
+  done
+done
+exit "$status"
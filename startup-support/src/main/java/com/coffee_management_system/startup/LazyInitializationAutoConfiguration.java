@@ -0,0 +1,54 @@
+package com.coffee_management_system.startup;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Marks beans from the packages listed in {@code startup.lazy-packages} as lazy, so non-critical
+ * infrastructure is only created on first use instead of during startup. Beans that an eagerly
+ * created bean depends on are still created at startup.
+ * <p>
+ * Applied to every service that depends on {@code startup-support}; each lists its own packages.
+ */
+@AutoConfiguration
+public class LazyInitializationAutoConfiguration {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = declaringClassName(definition);
+                if (className != null && packages.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition.getBeanClassName() != null) {
+            return definition.getBeanClassName();
+        }
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            return factoryMethod != null ? factoryMethod.getDeclaringClassName() : null;
+        }
+        return null;
+    }
+}